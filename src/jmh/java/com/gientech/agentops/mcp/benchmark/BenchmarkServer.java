@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.Mcp4ailApplication;
+import com.gientech.agentops.mcp.data.DataGenerator;
+import com.gientech.agentops.mcp.data.DataGenerator.GeneratedCustomer;
+import com.gientech.agentops.mcp.service.CustomerService;
+import com.gientech.agentops.mcp.service.LoanProductService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 基准测试用的MCP服务器
+ * 每轮基准测试启动一个使用随机端口和独立内存库的服务器实例，并生成指定规模的数据集
+ */
+@State(Scope.Benchmark)
+public class BenchmarkServer {
+
+    /**
+     * 数据集客户数量，通过 -p customers=... 调整
+     */
+    @Param("1000")
+    public int customers;
+
+    /**
+     * SQL日志方式，通过 -p sqlLogging=... 对比不同方式对吞吐量的影响：
+     * off - 不记录；stdout - MyBatis StdOutImpl 同步输出到控制台；
+     * async-all / async-sampled / async-slow - InvocationLogger 对应模式，异步写入日志文件
+     */
+    @Param("off")
+    public String sqlLogging;
+
+    /**
+     * 每条SQL注入的延迟（毫秒），模拟远程数据库；大于0时默认同时关闭客户和产品缓存，使每次调用都访问数据库
+     */
+    @Param("0")
+    public int sqlLatencyMillis;
+
+    /**
+     * 客户和产品缓存，通过 -p caches=warm,cold 对比：
+     * auto - 注入SQL延迟时关闭，否则开启；cold - 关闭；warm - 开启，并在开始前加载全部客户和产品
+     */
+    @Param("auto")
+    public String caches;
+
+    /**
+     * 工具内并行查询的线程数，0表示顺序执行，通过 -p lookupParallelism=0,8 对比
+     */
+    @Param("8")
+    public int lookupParallelism;
+
+    private ConfigurableApplicationContext context;
+
+    private int port;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        // 命令行参数优先于 application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;DATABASE_TO_UPPER=FALSE",
+                "--logging.level.root=WARN",
+                "--logging.file.name=target/benchmark.log",
+                // 测量工具本身，不命中会话级结果缓存
+                "--mcp4ail.tool-cache.ttl=0s",
+                "--mcp4ail.lookup.parallelism=" + lookupParallelism));
+        if (!List.of("auto", "cold", "warm").contains(caches)) {
+            throw new IllegalArgumentException("未知的缓存方式: " + caches);
+        }
+        if ("cold".equals(caches) || ("auto".equals(caches) && sqlLatencyMillis > 0)) {
+            args.addAll(List.of("--mcp4ail.cache.customer.maximum-size=0", "--mcp4ail.cache.loan-product.maximum-size=0"));
+        }
+        switch (sqlLogging) {
+            case "off" -> args.addAll(List.of("--mcp4ail.sql-log.mode=OFF", "--mcp4ail.tool-log.mode=OFF"));
+            case "stdout" -> args.addAll(List.of("--mcp4ail.sql-log.mode=OFF", "--mcp4ail.tool-log.mode=OFF",
+                    "--mybatis-plus.configuration.log-impl=org.apache.ibatis.logging.stdout.StdOutImpl"));
+            case "async-all" -> args.addAll(List.of("--mcp4ail.sql-log.mode=ALL", "--mcp4ail.tool-log.mode=ALL"));
+            case "async-sampled" -> args.addAll(List.of("--mcp4ail.sql-log.mode=SAMPLED", "--mcp4ail.tool-log.mode=SAMPLED"));
+            case "async-slow" -> args.addAll(List.of("--mcp4ail.sql-log.mode=SLOW", "--mcp4ail.tool-log.mode=SLOW"));
+            default -> throw new IllegalArgumentException("未知的SQL日志方式: " + sqlLogging);
+        }
+        SqlLatencyInjector latencyInjector = new SqlLatencyInjector(sqlLatencyMillis);
+        SpringApplication application = new SpringApplication(Mcp4ailApplication.class);
+        application.addInitializers(applicationContext ->
+                applicationContext.getBeanFactory().addBeanPostProcessor(latencyInjector));
+        context = application.run(args.toArray(new String[0]));
+        new DataGenerator(DataGenerator.Options.defaults().withCustomers(customers))
+                .generate(context.getBean(DataSource.class));
+        if ("warm".equals(caches)) {
+            warmCaches();
+        }
+        // 数据集生成后才开始注入延迟
+        latencyInjector.enable();
+        port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private void warmCaches() {
+        CustomerService customerService = context.getBean(CustomerService.class);
+        for (int i = 0; i < customers; i++) {
+            GeneratedCustomer customer = DataGenerator.customer(i);
+            customerService.getByIdentity(customer.idType(), customer.idNumber());
+        }
+        LoanProductService loanProductService = context.getBean(LoanProductService.class);
+        for (String productName : DataGenerator.PRODUCT_NAMES) {
+            loanProductService.getByProductName(productName);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * 随机选取一个基准客户
+     */
+    public GeneratedCustomer randomCustomer() {
+        return DataGenerator.customer(ThreadLocalRandom.current().nextInt(customers));
+    }
+}
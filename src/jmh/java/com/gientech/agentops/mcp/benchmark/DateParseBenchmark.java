@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.providers.LoanProductPlanProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * resourceScheduler 日期解析路径的基准测试
+ * 比较共享 DateTimeFormatter 解析为纪元日、每线程独占 SimpleDateFormat 解析为 Date，以及完整的工具调用（不经过切面），
+ * 多线程运行以体现共享格式化器在并发下的表现
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class DateParseBenchmark {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final String[] DATES = {"2023-01-15", "2023-11-09", "2023-11-10", "2024-02-29", "2025-06-30",
+            "2022-12-31", "2024-10-01", "2023-07-04"};
+
+    private final SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
+
+    private final LoanProductPlanProvider provider = new LoanProductPlanProvider();
+
+    private int next;
+
+    private String nextDate() {
+        next = (next + 1) & (DATES.length - 1);
+        return DATES[next];
+    }
+
+    @Benchmark
+    public long dateTimeFormatter() {
+        return LocalDate.parse(nextDate(), FORMATTER).toEpochDay();
+    }
+
+    @Benchmark
+    public long simpleDateFormat() throws ParseException {
+        return simpleDateFormat.parse(nextDate()).getTime();
+    }
+
+    @Benchmark
+    public Object resourceScheduler() {
+        return provider.resourceScheduler("技术团队", "系统改造", nextDate());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.service.DependencyGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 系统依赖关系图的基准测试
+ * 生成随机有向无环图，每个系统依赖若干个序号在其之前 window 以内的系统（window 越大依赖链越短、传递依赖越分散），
+ * 分别测量编译整张图，以及对随机的 changesPerQuery 个系统变更做依赖分析
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DependencyGraphBenchmark {
+
+    @Param({"10000"})
+    private int nodes;
+
+    @Param({"3"})
+    private int maxDependencies;
+
+    @Param({"200"})
+    private int window;
+
+    @Param({"1", "5"})
+    private int changesPerQuery;
+
+    private List<DependencyGraph.Node> definitions;
+
+    private DependencyGraph graph;
+
+    private List<List<String>> queries;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        definitions = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            int count = i == 0 ? 0 : random.nextInt(maxDependencies + 1);
+            List<String> dependsOn = new ArrayList<>(count);
+            for (int d = 0; d < count; d++) {
+                dependsOn.add("system-" + (i - 1 - random.nextInt(Math.min(i, window))));
+            }
+            definitions.add(new DependencyGraph.Node("system-" + i, random.nextInt(1, 30), dependsOn, List.of()));
+        }
+        graph = DependencyGraph.compile(definitions);
+
+        queries = new ArrayList<>(1024);
+        for (int q = 0; q < 1024; q++) {
+            List<String> changes = new ArrayList<>(changesPerQuery);
+            for (int c = 0; c < changesPerQuery; c++) {
+                changes.add("system-" + random.nextInt(nodes));
+            }
+            queries.add(changes);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public DependencyGraph compile() {
+        return DependencyGraph.compile(definitions);
+    }
+
+    @Benchmark
+    public DependencyGraph.Analysis analyze() {
+        next = (next + 1) & (queries.size() - 1);
+        return graph.analyze(queries.get(next));
+    }
+}
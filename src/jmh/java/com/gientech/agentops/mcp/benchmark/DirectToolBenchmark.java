@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.data.DataGenerator.GeneratedCustomer;
+import com.gientech.agentops.mcp.dto.CustomerProductKey;
+import com.gientech.agentops.mcp.providers.LoanCreditProvider;
+import com.gientech.agentops.mcp.providers.LoanProductPlanProvider;
+import com.gientech.agentops.mcp.providers.MarketingProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 直接调用各 @McpTool 方法的基准测试，不经过MCP协议层
+ * 调用经过Spring代理（包括工具结果缓存切面），但没有MCP会话，因此不会命中缓存
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirectToolBenchmark {
+
+    private BenchmarkServer server;
+
+    private LoanCreditProvider loanCreditProvider;
+
+    private MarketingProvider marketingProvider;
+
+    private LoanProductPlanProvider loanProductPlanProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkServer server) {
+        this.server = server;
+        this.loanCreditProvider = server.getBean(LoanCreditProvider.class);
+        this.marketingProvider = server.getBean(MarketingProvider.class);
+        this.loanProductPlanProvider = server.getBean(LoanProductPlanProvider.class);
+    }
+
+    // ========== LoanCreditProvider ==========
+
+    @Benchmark
+    public Object queryCreditLimit() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryCreditLimit(c.name(), c.idType(), c.idNumber(), c.productName(), null);
+    }
+
+    @Benchmark
+    public Object queryLoanBalanceByProduct() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryLoanBalanceByProduct(c.name(), c.idType(), c.idNumber(), c.productName(), null);
+    }
+
+    @Benchmark
+    public Object queryLoanBalancesByCustomer() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryLoanBalancesByCustomer(c.name(), c.idType(), c.idNumber(), null);
+    }
+
+    @Benchmark
+    public Object queryRepaymentPlans() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryRepaymentPlans(c.name(), c.idType(), c.idNumber(), c.productName(), null);
+    }
+
+    @Benchmark
+    public Object queryOverdueRecords() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryOverdueRecords(c.name(), c.idType(), c.idNumber(), c.productName(), null);
+    }
+
+    @Benchmark
+    public Object queryCustomerPortfolio() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryCustomerPortfolio(c.name(), c.idType(), c.idNumber(), null, null, null);
+    }
+
+    // 与 queryCustomerPortfolio 对比：智能体逐个调用四个工具获取同一客户的信息
+    @Benchmark
+    public Object chainedCustomerQueries() {
+        GeneratedCustomer c = server.randomCustomer();
+        return List.of(
+                loanCreditProvider.queryCreditLimit(c.name(), c.idType(), c.idNumber(), c.productName(), null),
+                loanCreditProvider.queryLoanBalancesByCustomer(c.name(), c.idType(), c.idNumber(), null),
+                loanCreditProvider.queryRepaymentPlans(c.name(), c.idType(), c.idNumber(), c.productName(), null),
+                loanCreditProvider.queryOverdueRecords(c.name(), c.idType(), c.idNumber(), c.productName(), null));
+    }
+
+    @Benchmark
+    public Object queryCreditLimitsBatch() {
+        return loanCreditProvider.queryCreditLimitsBatch(batchItems(), null);
+    }
+
+    @Benchmark
+    public Object queryLoanBalancesBatch() {
+        return loanCreditProvider.queryLoanBalancesBatch(batchItems(), null);
+    }
+
+    @Benchmark
+    public Object queryRepaymentSchedule() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryRepaymentSchedule(c.name(), c.idType(), c.idNumber(), c.productName(),
+                null, null, false, null, null);
+    }
+
+    // ========== MarketingProvider ==========
+
+    @Benchmark
+    public Object recommendCoupons() {
+        GeneratedCustomer c = server.randomCustomer();
+        return marketingProvider.recommendCoupons(c.idNumber(), c.name(), "VIP");
+    }
+
+    @Benchmark
+    public Object queryCustomerCoupons() {
+        GeneratedCustomer c = server.randomCustomer();
+        return marketingProvider.queryCustomerCoupons(c.idNumber(), c.name());
+    }
+
+    @Benchmark
+    public Object queryMarketingActivities() {
+        return marketingProvider.queryMarketingActivities("ACTIVE");
+    }
+
+    @Benchmark
+    public Object queryCustomerPoints() {
+        GeneratedCustomer c = server.randomCustomer();
+        return marketingProvider.queryCustomerPoints(c.idNumber(), c.name());
+    }
+
+    @Benchmark
+    public Object queryCustomerActivities() {
+        GeneratedCustomer c = server.randomCustomer();
+        return marketingProvider.queryCustomerActivities(c.idNumber(), c.name());
+    }
+
+    @Benchmark
+    public Object issueCouponToCustomer() {
+        GeneratedCustomer c = server.randomCustomer();
+        return marketingProvider.issueCouponToCustomer(c.idNumber(), "TPL001", "基准测试");
+    }
+
+    @Benchmark
+    public Object queryActivityStatistics() {
+        return marketingProvider.queryActivityStatistics("ACT001", "春季大促活动");
+    }
+
+    @Benchmark
+    public Object queryChannelEffectiveness() {
+        return marketingProvider.queryChannelEffectiveness("SMS");
+    }
+
+    // ========== LoanProductPlanProvider ==========
+
+    @Benchmark
+    public Object complianceCheck() {
+        return loanProductPlanProvider.complianceCheck("审批时限为7个工作日", "小微企业贷款管理办法");
+    }
+
+    @Benchmark
+    public Object defaultComplianceCheck() {
+        return loanProductPlanProvider.defaultComplianceCheck("利率设置为LPR+150BP");
+    }
+
+    @Benchmark
+    public Object riskAssessment() {
+        return loanProductPlanProvider.riskAssessment("闪电贷", 50000000.0);
+    }
+
+    @Benchmark
+    public Object resourceScheduler() {
+        return loanProductPlanProvider.resourceScheduler("技术团队", "系统改造", LocalDate.now().toString());
+    }
+
+    @Benchmark
+    public Object systemDependency() {
+        return loanProductPlanProvider.systemDependency(List.of(ToolArguments.SYSTEM_CHANGES));
+    }
+
+    private List<CustomerProductKey> batchItems() {
+        List<CustomerProductKey> items = new ArrayList<>(ToolArguments.BATCH_SIZE);
+        for (int i = 0; i < ToolArguments.BATCH_SIZE; i++) {
+            GeneratedCustomer c = server.randomCustomer();
+            CustomerProductKey key = new CustomerProductKey();
+            key.setIdType(c.idType());
+            key.setIdNumber(c.idNumber());
+            key.setProductName(c.productName());
+            items.add(key);
+        }
+        return items;
+    }
+}
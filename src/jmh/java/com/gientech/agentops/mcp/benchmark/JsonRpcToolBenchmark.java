@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 经MCP JSON-RPC分发调用各工具的基准测试
+ * 每个基准线程持有一个独立的MCP会话，通过Streamable HTTP调用本机服务器
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonRpcToolBenchmark {
+
+    @Param({
+            "queryCreditLimit", "queryLoanBalanceByProduct", "queryLoanBalancesByCustomer", "queryRepaymentPlans",
+            "queryOverdueRecords", "queryCreditLimitsBatch", "queryLoanBalancesBatch", "queryRepaymentSchedule",
+            "queryCustomerPortfolio",
+            "recommendCoupons", "queryCustomerCoupons", "queryMarketingActivities", "queryCustomerPoints",
+            "queryCustomerActivities", "issueCouponToCustomer", "queryActivityStatistics", "queryChannelEffectiveness",
+            "complianceCheck", "defaultComplianceCheck", "riskAssessment", "resourceScheduler", "systemDependency"
+    })
+    public String tool;
+
+    private BenchmarkServer server;
+
+    private McpSyncClient client;
+
+    @Setup(Level.Trial)
+    public void connect(BenchmarkServer server) {
+        this.server = server;
+        this.client = McpClient.sync(HttpClientStreamableHttpTransport.builder(server.baseUrl()).build()).build();
+        client.initialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void disconnect() {
+        client.closeGracefully();
+    }
+
+    @Benchmark
+    public CallToolResult callTool() {
+        CallToolResult result = client.callTool(new CallToolRequest(tool, ToolArguments.forTool(tool, server)));
+        if (Boolean.TRUE.equals(result.isError())) {
+            throw new IllegalStateException(tool + " 调用失败: " + result.content());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.data.DataGenerator.GeneratedCustomer;
+import com.gientech.agentops.mcp.providers.LoanCreditProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工具内并行查询的延迟分布基准测试
+ * 以采样模式记录每次调用的耗时（输出 p0.99 等分位数），需配合SQL延迟注入运行，例如：
+ * -Djmh.args="-p sqlLatencyMillis=2 -p lookupParallelism=0,8 -p caches=cold,warm LookupFanOutBenchmark"
+ * 缓存未预热（cold）时，顺序执行每次调用为 客户、产品、关联查询 三次往返，并行时为两次；
+ * 缓存已预热（warm）时产品在调用线程上从缓存解析，不提交到线程池，两种方式都只有关联查询一次往返
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LookupFanOutBenchmark {
+
+    private BenchmarkServer server;
+
+    private LoanCreditProvider loanCreditProvider;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkServer server) {
+        this.server = server;
+        this.loanCreditProvider = server.getBean(LoanCreditProvider.class);
+    }
+
+    @Benchmark
+    public Object queryCreditLimit() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryCreditLimit(c.name(), c.idType(), c.idNumber(), c.productName(), null);
+    }
+
+    @Benchmark
+    public Object queryRepaymentPlans() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryRepaymentPlans(c.name(), c.idType(), c.idNumber(), c.productName(), null);
+    }
+
+    @Benchmark
+    public Object queryOverdueRecords() {
+        GeneratedCustomer c = server.randomCustomer();
+        return loanCreditProvider.queryOverdueRecords(c.name(), c.idType(), c.idNumber(), c.productName(), null);
+    }
+}
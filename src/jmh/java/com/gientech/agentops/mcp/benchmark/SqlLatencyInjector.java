@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 为每条SQL注入固定延迟，模拟远程数据库的网络往返
+ * 包装容器中的 DataSource，Statement 的 execute* 方法执行前等待指定时长；
+ * 启用前（如生成数据集时）不注入延迟
+ */
+class SqlLatencyInjector implements BeanPostProcessor {
+
+    private final long latencyNanos;
+
+    private volatile boolean enabled;
+
+    SqlLatencyInjector(long latencyMillis) {
+        this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+    }
+
+    void enable() {
+        enabled = true;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && latencyNanos > 0) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                return wrap(statement, method.getReturnType());
+            }
+            return result;
+        });
+    }
+
+    // 保留 PreparedStatement/CallableStatement 接口，以便调用方设置参数
+    @SuppressWarnings("unchecked")
+    private <S extends Statement> S wrap(Statement statement, Class<?> type) {
+        return (S) proxy((Class<S>) type, (S) statement, (target, method, args) -> {
+            if (enabled && method.getName().startsWith("execute")) {
+                long deadline = System.nanoTime() + latencyNanos;
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(remaining);
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, TargetHandler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return type.cast(Proxy.newProxyInstance(SqlLatencyInjector.class.getClassLoader(),
+                new Class<?>[]{type}, invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface TargetHandler<T> {
+
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.data.DataGenerator.GeneratedCustomer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 各MCP工具的基准测试调用参数
+ */
+final class ToolArguments {
+
+    // 批量查询工具每次调用的条目数
+    static final int BATCH_SIZE = 50;
+
+    static final String[] SYSTEM_CHANGES = {"核心系统改造", "支付系统改造"};
+
+    private ToolArguments() {
+    }
+
+    /**
+     * 构建工具调用参数
+     * @param tool 工具名称
+     * @param server 基准测试服务器，用于选取客户
+     * @return 参数名到参数值的映射
+     */
+    static Map<String, Object> forTool(String tool, BenchmarkServer server) {
+        GeneratedCustomer customer = server.randomCustomer();
+        Map<String, Object> args = new HashMap<>();
+        switch (tool) {
+            case "queryCreditLimit", "queryLoanBalanceByProduct", "queryRepaymentPlans", "queryOverdueRecords",
+                    "queryRepaymentSchedule" -> {
+                putIdentity(args, customer);
+                args.put("productName", customer.productName());
+            }
+            case "queryLoanBalancesByCustomer", "queryCustomerPortfolio" -> putIdentity(args, customer);
+            case "queryCreditLimitsBatch", "queryLoanBalancesBatch" -> {
+                List<Map<String, Object>> items = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    GeneratedCustomer item = server.randomCustomer();
+                    items.add(Map.of("idType", item.idType(), "idNumber", item.idNumber(),
+                            "productName", item.productName()));
+                }
+                args.put("items", items);
+            }
+            case "recommendCoupons" -> {
+                putMarketingCustomer(args, customer);
+                args.put("customerType", "VIP");
+            }
+            case "queryCustomerCoupons", "queryCustomerPoints", "queryCustomerActivities" ->
+                    putMarketingCustomer(args, customer);
+            case "queryMarketingActivities" -> args.put("status", "ACTIVE");
+            case "issueCouponToCustomer" -> {
+                args.put("customerId", customer.idNumber());
+                args.put("couponTemplateId", "TPL001");
+                args.put("reason", "基准测试");
+            }
+            case "queryActivityStatistics" -> {
+                args.put("activityId", "ACT001");
+                args.put("activityName", "春季大促活动");
+            }
+            case "queryChannelEffectiveness" -> args.put("channelType", "SMS");
+            case "complianceCheck" -> {
+                args.put("planStep", "审批时限为7个工作日");
+                args.put("regulation", "小微企业贷款管理办法");
+            }
+            case "defaultComplianceCheck" -> args.put("planStep", "利率设置为LPR+150BP");
+            case "riskAssessment" -> {
+                args.put("productType", "闪电贷");
+                args.put("targetAmount", 50000000.0);
+            }
+            case "resourceScheduler" -> {
+                args.put("team", "技术团队");
+                args.put("requiredTasks", "系统改造");
+                args.put("startDate", LocalDate.now().toString());
+            }
+            case "systemDependency" -> args.put("systemChanges", List.of(SYSTEM_CHANGES));
+            default -> throw new IllegalArgumentException("未知工具: " + tool);
+        }
+        return args;
+    }
+
+    private static void putIdentity(Map<String, Object> args, GeneratedCustomer customer) {
+        args.put("name", customer.name());
+        args.put("idType", customer.idType());
+        args.put("idNumber", customer.idNumber());
+    }
+
+    private static void putMarketingCustomer(Map<String, Object> args, GeneratedCustomer customer) {
+        args.put("customerId", customer.idNumber());
+        args.put("customerName", customer.name());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.providers.LoanProductPlanProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @McpTool 切面开销的基准测试
+ * 对同一个不访问数据库的工具，分别通过Spring代理（经过指标及结果缓存切面）和直接调用目标对象，两者之差即切面开销
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ToolAspectOverheadBenchmark {
+
+    private LoanProductPlanProvider proxied;
+
+    private LoanProductPlanProvider target;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkServer server) {
+        proxied = server.getBean(LoanProductPlanProvider.class);
+        target = (LoanProductPlanProvider) AopProxyUtils.getSingletonTarget(proxied);
+    }
+
+    @Benchmark
+    public Object proxied() {
+        return proxied.riskAssessment("消费贷", 1000000.0);
+    }
+
+    @Benchmark
+    public Object target() {
+        return target.riskAssessment("消费贷", 1000000.0);
+    }
+}
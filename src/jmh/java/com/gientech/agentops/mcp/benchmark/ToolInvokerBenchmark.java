@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.gientech.agentops.mcp.providers.LoanProductPlanProvider;
+import com.gientech.agentops.mcp.tool.ToolInvoker;
+import com.gientech.agentops.mcp.tool.ToolRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工具测试接口调用方式的基准测试
+ * 对同一个不访问数据库的工具，比较注册时生成的 {@link ToolInvoker} 与逐次查找方法、转换参数并反射调用的开销
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ToolInvokerBenchmark {
+
+    private static final Map<String, String> PARAMS = Map.of("toolName", "riskAssessment",
+            "param0", "消费贷", "param1", "1000000");
+
+    private ToolInvoker invoker;
+
+    private LoanProductPlanProvider bean;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkServer server) {
+        invoker = server.getBean(ToolRegistry.class).getTool("riskAssessment").getInvoker();
+        bean = server.getBean(LoanProductPlanProvider.class);
+    }
+
+    @Benchmark
+    public Object invoker() {
+        return invoker.invoke(PARAMS);
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        for (Method method : LoanProductPlanProvider.class.getDeclaredMethods()) {
+            if (method.getName().equals("riskAssessment")) {
+                method.setAccessible(true);
+                return method.invoke(bean, PARAMS.get("param0"), Double.parseDouble(PARAMS.get("param1")));
+            }
+        }
+        throw new IllegalStateException("riskAssessment not found");
+    }
+}
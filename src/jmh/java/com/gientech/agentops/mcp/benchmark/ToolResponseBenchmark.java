@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gientech.agentops.mcp.dto.RepaymentPlanItem;
+import com.gientech.agentops.mcp.dto.RepaymentPlansResult;
+import com.gientech.agentops.mcp.entity.RepaymentPlan;
+import com.gientech.agentops.mcp.tool.ToolResponseWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工具响应构建及序列化的基准测试：逐行 HashMap 与类型化响应记录对比
+ * 以还款计划查询的响应为例，不需要启动服务器。
+ * hashMapResponse 和 typedResponse 都用通用的 ObjectMapper 按运行时类型序列化，与MCP注解框架生成 CallToolResult 的方式相同；
+ * typedResponseWriter 使用预先构建的 {@link ToolResponseWriter}，只对应响应大小抽样的路径，
+ * 不代表发送给客户端的序列化开销，端到端开销见 JsonRpcToolBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ToolResponseBenchmark {
+
+    @Param({"12", "240"})
+    public int rows;
+
+    private List<RepaymentPlan> plans;
+
+    private ObjectMapper objectMapper;
+
+    private ToolResponseWriter responseWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        responseWriter = new ToolResponseWriter(objectMapper);
+        plans = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            RepaymentPlan plan = new RepaymentPlan();
+            plan.setRepaymentDate(String.format("%d-%02d", 2025 + i / 12, i % 12 + 1));
+            plan.setRepaymentAmount(new BigDecimal("1500.00"));
+            plan.setInterestAmount(new BigDecimal("440.00"));
+            plan.setPrincipalAmount(new BigDecimal("1060.00"));
+            plan.setRemainingBalance(BigDecimal.valueOf(8661000L - 106000L * i, 2));
+            plan.setStatus("UPCOMING");
+            plans.add(plan);
+        }
+    }
+
+    @Benchmark
+    public byte[] hashMapResponse() throws Exception {
+        List<Map<String, Object>> repaymentPlans = new ArrayList<>(plans.size());
+        for (RepaymentPlan plan : plans) {
+            Map<String, Object> planInfo = new HashMap<>();
+            planInfo.put("repaymentDate", plan.getRepaymentDate());
+            planInfo.put("repaymentAmount", plan.getRepaymentAmount().setScale(2, RoundingMode.HALF_UP).toString());
+            planInfo.put("interestAmount", plan.getInterestAmount().setScale(2, RoundingMode.HALF_UP).toString());
+            planInfo.put("principalAmount", plan.getPrincipalAmount().setScale(2, RoundingMode.HALF_UP).toString());
+            planInfo.put("remainingBalance", plan.getRemainingBalance().setScale(2, RoundingMode.HALF_UP).toString());
+            planInfo.put("status", plan.getStatus());
+            repaymentPlans.add(planInfo);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("customerName", "张三");
+        result.put("productName", "公积金贷");
+        result.put("year", "2025");
+        result.put("repaymentPlans", repaymentPlans);
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public byte[] typedResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(typedResult());
+    }
+
+    @Benchmark
+    public byte[] typedResponseWriter() throws Exception {
+        return responseWriter.writeValueAsBytes(typedResult());
+    }
+
+    private RepaymentPlansResult typedResult() {
+        List<RepaymentPlanItem> repaymentPlans = new ArrayList<>(plans.size());
+        for (RepaymentPlan plan : plans) {
+            repaymentPlans.add(RepaymentPlanItem.of(plan));
+        }
+        return RepaymentPlansResult.of("张三", "公积金贷", "2025", repaymentPlans);
+    }
+}
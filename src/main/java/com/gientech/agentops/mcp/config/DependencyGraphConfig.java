@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gientech.agentops.mcp.service.DependencyGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 系统依赖关系图配置
+ * 启动时从 mcp4ail.dependency-graph.location 读取系统节点定义（JSON数组）并编译一次，
+ * 定义有误（重复节点、循环依赖）时启动失败
+ */
+@Configuration
+public class DependencyGraphConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DependencyGraphConfig.class);
+
+    @Bean
+    public DependencyGraph dependencyGraph(
+            @Value("${mcp4ail.dependency-graph.location:classpath:dependency-graph.json}") Resource location,
+            ObjectMapper objectMapper) throws IOException {
+        List<DependencyGraph.Node> nodes;
+        try (InputStream in = location.getInputStream()) {
+            nodes = objectMapper.readValue(in, new TypeReference<List<DependencyGraph.Node>>() {
+            });
+        }
+        long start = System.nanoTime();
+        DependencyGraph graph = DependencyGraph.compile(nodes);
+        logger.info("已加载系统依赖关系图 {}，共{}个系统，编译耗时{}ms", location.getDescription(), graph.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return graph;
+    }
+}
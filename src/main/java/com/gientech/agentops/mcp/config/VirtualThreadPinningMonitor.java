@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 虚拟线程固定（pinning）诊断
+ * 虚拟线程模式下通过JFR事件流监听 jdk.VirtualThreadPinned 事件：虚拟线程在 synchronized 块或本地方法中阻塞时
+ * 无法让出载体线程，超过阈值时记录告警日志（含调用栈）并计入 mcp.virtual.thread.pinned 指标
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // 告警日志中输出的栈帧数
+    private static final int MAX_FRAMES = 8;
+
+    private final Duration threshold;
+
+    private final Counter pinnedCounter;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${mcp4ail.virtual-threads.pinning-threshold:20ms}") Duration threshold,
+                                       MeterRegistry registry) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("mcp.virtual.thread.pinned")
+                .description("虚拟线程被固定在载体线程上超过阈值的次数")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        logger.info("虚拟线程固定诊断已启用，阈值{}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        logger.warn("虚拟线程被固定{}ms：{}", event.getDuration().toMillis(), frames(event.getStackTrace()));
+    }
+
+    private static String frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "无调用栈";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(MAX_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return sb.toString();
+    }
+}
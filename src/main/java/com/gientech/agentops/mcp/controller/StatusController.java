@@ -22,28 +22,35 @@
  * SOFTWARE.
  */
 package com.gientech.agentops.mcp.controller;
+import com.gientech.agentops.mcp.service.CustomerService;
+import com.gientech.agentops.mcp.service.LoanProductService;
+import com.gientech.agentops.mcp.tool.ToolCatalog;
+import com.gientech.agentops.mcp.tool.ToolRegistry;
+import com.gientech.agentops.mcp.tool.ToolRegistry.RegisteredTool;
+import com.gientech.agentops.mcp.tool.ToolResultCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springaicommunity.mcp.annotation.McpTool;
-import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Controller
@@ -52,10 +59,22 @@ public class StatusController {
     private static final Logger logger = LoggerFactory.getLogger(StatusController.class);
 
     @Autowired
-    private ApplicationContext applicationContext;
+    private Environment environment;
 
     @Autowired
-    private Environment environment;
+    private ToolResultCache toolResultCache;
+
+    @Autowired
+    private ToolRegistry toolRegistry;
+
+    @Autowired
+    private ToolCatalog toolCatalog;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private LoanProductService loanProductService;
 
     @Value("${spring.application.name}")
     private String applicationName;
@@ -88,146 +107,92 @@ public class StatusController {
         model.addAttribute("mcpServerVersion", mcpServerVersion);
         model.addAttribute("mcpServerProtocol", mcpServerProtocol);
         
-        // 使用反射机制扫描所有带有@McpTool注解的方法
-        List<McpToolInfo> toolInfos = scanMcpTools();
-        
-        // 设置工具数量
-        model.addAttribute("toolCount", toolInfos.size());
-        
-        // 按Provider类名对工具进行分组
-        Map<String, List<McpToolInfo>> toolsByProvider = new HashMap<>();
-        List<String> providerNames = new ArrayList<>();
-        
-        for (McpToolInfo toolInfo : toolInfos) {
-            String className = toolInfo.getClassName();
-            // 提取简单类名
-            String simpleClassName = className.substring(className.lastIndexOf('.') + 1);
-            
-            // 按简单类名分组
-            toolsByProvider.computeIfAbsent(simpleClassName, k -> new ArrayList<>()).add(toolInfo);
-            
-            // 记录provider名称（避免重复）
-            if (!providerNames.contains(simpleClassName)) {
-                providerNames.add(simpleClassName);
-            }
-        }
-        
-        // 将分组信息传递给前端
-        model.addAttribute("toolsByProvider", toolsByProvider);
-        model.addAttribute("providerNames", providerNames);
+        // 工具分组与 /tools.json 共用同一个目录快照
+        ToolCatalog.Snapshot catalog = toolCatalog.getSnapshot();
+        model.addAttribute("toolCount", catalog.getToolCount());
+        model.addAttribute("providers", catalog.getProviders());
         
         return "status";
     }
     
     /**
-     * 扫描所有带有@McpTool注解的方法
-     * @return 工具信息列表
+     * 预先序列化的工具目录，支持gzip压缩及基于强ETag的条件请求
      */
-    private List<McpToolInfo> scanMcpTools() {
-        List<McpToolInfo> toolInfos = new ArrayList<>();
-        
-        try {
-            // 获取所有Bean
-            String[] beanNames = applicationContext.getBeanDefinitionNames();
-            
-            for (String beanName : beanNames) {
-                Object bean = applicationContext.getBean(beanName);
-                Class<?> beanClass = bean.getClass();
-                
-                // 如果是代理类，获取原始类
-                if (beanClass.getName().contains("$") && !beanClass.getName().contains("EnhancerBySpringCGLIB")) {
-                    beanClass = beanClass.getSuperclass();
-                }
-                
-                // 扫描所有方法
-                Method[] methods = beanClass.getDeclaredMethods();
-                for (Method method : methods) {
-                    // 检查方法是否带有@McpTool注解
-                    if (method.isAnnotationPresent(McpTool.class)) {
-                        McpTool annotation = method.getAnnotation(McpTool.class);
-                        
-                        // 创建工具信息
-                        McpToolInfo toolInfo = new McpToolInfo();
-                        toolInfo.setName(method.getName());
-                        toolInfo.setDescription(annotation.description());
-                        toolInfo.setClassName(beanClass.getName());
-                        toolInfo.setBeanName(beanName);
-                        
-                        // 收集参数信息
-                        List<String> params = new ArrayList<>();
-                        List<Map<String, String>> paramDetails = new ArrayList<>();
-                        
-                        Class<?>[] paramTypes = method.getParameterTypes();
-                        Annotation[][] paramAnnotations = method.getParameterAnnotations();
-                        
-                        for (int i = 0; i < paramTypes.length; i++) {
-                            Class<?> paramType = paramTypes[i];
-                            params.add(paramType.getSimpleName());
-                            
-                            // 创建参数详细信息
-                            Map<String, String> paramDetail = new HashMap<>();
-                            paramDetail.put("type", paramType.getSimpleName());
-                            
-                            // 尝试获取参数名称（使用参数索引作为默认名称）
-                            String paramName = "param" + i;
-                            paramDetail.put("name", paramName);
-                            
-                            // 尝试获取参数描述
-                            String paramDescription = "未提供描述";
-                            for (Annotation paramAnnotation : paramAnnotations[i]) {
-                                if (paramAnnotation instanceof McpToolParam) {
-                                    McpToolParam mcpParamAnnotation = (McpToolParam) paramAnnotation;
-                                    paramDescription = mcpParamAnnotation.description();
-                                    break;
-                                }
-                            }
-                            paramDetail.put("description", paramDescription);
-                            
-                            paramDetails.add(paramDetail);
-                        }
-                        
-                        toolInfo.setParameters(params);
-                        toolInfo.setParamDetails(paramDetails);
-                        
-                        toolInfos.add(toolInfo);
-                    }
-                }
+    @GetMapping("/tools.json")
+    @ResponseBody
+    public ResponseEntity<byte[]> toolsJson(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ToolCatalog.Snapshot catalog = toolCatalog.getSnapshot();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // 两种表示的字节不同，各自使用自己的ETag
+        String etag = gzip ? catalog.getGzippedEtag() : catalog.getEtag();
+        if (ifNoneMatch != null && matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.getGzippedJson());
+        }
+        return response.body(catalog.getJson());
+    }
+
+    /**
+     * If-None-Match 使用弱比较，与本次返回的表示的ETag比较
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
             }
-            
-            logger.info("成功扫描到 {} 个MCP工具方法", toolInfos.size());
-        } catch (Exception e) {
-            logger.error("扫描MCP工具失败", e);
         }
-        
-        return toolInfos;
+        return false;
     }
-    
+
     /**
-     * MCP工具信息类，用于存储工具的详细信息
+     * 按 Accept-Encoding 的q值判断客户端是否接受gzip：显式列出的 gzip/x-gzip 优先，否则看 *，q=0 表示不接受
      */
-    public static class McpToolInfo {
-        private String name;
-        private String description;
-        private String className;
-        private String beanName;
-        private List<String> parameters;
-        private List<Map<String, String>> paramDetails; // 存储参数名称、类型和描述
-        
-        // Getters and Setters
-        public String getName() { return name; }
-        public void setName(String name) { this.name = name; }
-        public String getDescription() { return description; }
-        public void setDescription(String description) { this.description = description; }
-        public String getClassName() { return className; }
-        public void setClassName(String className) { this.className = className; }
-        public String getBeanName() { return beanName; }
-        public void setBeanName(String beanName) { this.beanName = beanName; }
-        public List<String> getParameters() { return parameters; }
-        public void setParameters(List<String> parameters) { this.parameters = parameters; }
-        public List<Map<String, String>> getParamDetails() { return paramDetails; }
-        public void setParamDetails(List<Map<String, String>> paramDetails) { this.paramDetails = paramDetails; }
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double anyQuality = -1;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim();
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                anyQuality = Math.max(anyQuality, quality);
+            }
+        }
+        return gzipQuality >= 0 ? gzipQuality > 0 : anyQuality > 0;
     }
-    
+
     /**
      * 测试MCP工具的接口，支持传入参数并真正调用工具方法
      */
@@ -237,17 +202,8 @@ public class StatusController {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            // 扫描工具
-            List<McpToolInfo> toolInfos = scanMcpTools();
-            
             // 查找指定的工具
-            McpToolInfo targetTool = null;
-            for (McpToolInfo toolInfo : toolInfos) {
-                if (toolInfo.getName().equals(toolName)) {
-                    targetTool = toolInfo;
-                    break;
-                }
-            }
+            RegisteredTool targetTool = toolRegistry.getTool(toolName);
             
             if (targetTool == null) {
                 result.put("success", false);
@@ -257,81 +213,8 @@ public class StatusController {
             }
             
             try {
-                // 获取Bean和方法
-                Object bean = applicationContext.getBean(targetTool.getBeanName());
-                Class<?> beanClass = bean.getClass();
-                
-                // 如果是代理类，获取原始类
-                if (beanClass.getName().contains("$") && !beanClass.getName().contains("EnhancerBySpringCGLIB")) {
-                    beanClass = beanClass.getSuperclass();
-                }
-                
-                // 查找方法
-                Method[] methods = beanClass.getDeclaredMethods();
-                Method targetMethod = null;
-                for (Method method : methods) {
-                    if (method.getName().equals(toolName) && method.isAnnotationPresent(McpTool.class)) {
-                        targetMethod = method;
-                        break;
-                    }
-                }
-                
-                if (targetMethod == null) {
-                    result.put("success", false);
-                    result.put("message", "测试失败！在Bean中未找到方法" + toolName + "。");
-                    logger.warn("测试工具失败: 在Bean中未找到方法 {}", toolName);
-                    return result;
-                }
-                
-                // 解析参数
-                List<Object> convertedParams = new ArrayList<>();
-                Class<?>[] paramTypes = targetMethod.getParameterTypes();
-                List<Map<String, String>> paramDetails = targetTool.getParamDetails();
-                
-                // 确保参数可访问
-                targetMethod.setAccessible(true);
-                
-                // 如果没有参数，直接调用
-                if (paramTypes.length == 0) {
-                    Object methodResult = targetMethod.invoke(bean);
-                    result.put("success", true);
-                    result.put("message", "测试成功！" + toolName + "方法调用结果: " + (methodResult != null ? methodResult.toString() : "null"));
-                    logger.info("测试工具成功: {}，结果: {}", toolName, methodResult);
-                    return result;
-                }
-                
-                // 处理有参数的情况
-                for (int i = 0; i < paramTypes.length; i++) {
-                    String paramName = "param" + i;
-                    String paramValue = null;
-                    
-                    // 尝试从请求参数中获取值
-                    if (paramDetails != null && i < paramDetails.size()) {
-                        paramName = paramDetails.get(i).get("name");
-                    }
-                    
-                    // 查找对应的参数值
-                    if (allParams.containsKey(paramName)) {
-                        paramValue = allParams.get(paramName);
-                    } else {
-                        // 检查是否有前缀为toolName的参数
-                        String toolSpecificParamName = toolName + "." + paramName;
-                        if (allParams.containsKey(toolSpecificParamName)) {
-                            paramValue = allParams.get(toolSpecificParamName);
-                        }
-                    }
-                    
-                    // 类型转换
-                    if (paramValue != null && !paramValue.isEmpty()) {
-                        convertedParams.add(convertParam(paramTypes[i], paramValue));
-                    } else {
-                        // 如果没有提供参数值，使用默认值
-                        convertedParams.add(getDefaultValue(paramTypes[i]));
-                    }
-                }
-                
-                // 调用方法
-                Object methodResult = targetMethod.invoke(bean, convertedParams.toArray());
+                // 参数转换器和方法句柄在注册工具时已生成
+                Object methodResult = targetTool.getInvoker().invoke(allParams);
                 
                 // 返回结果
                 result.put("success", true);
@@ -340,7 +223,7 @@ public class StatusController {
             } catch (Exception e) {
                 // 捕获调用过程中的异常
                 result.put("success", false);
-                result.put("message", "调用工具方法失败：" + e.getCause().getMessage());
+                result.put("message", "调用工具方法失败：" + e.getMessage());
                 logger.error("调用工具方法异常", e);
             }
         } catch (Exception e) {
@@ -353,51 +236,26 @@ public class StatusController {
     }
     
     /**
-     * 将字符串参数转换为目标类型
+     * 查询MCP工具结果缓存的命中统计，以及客户、贷款产品本地缓存的命中统计
      */
-    private Object convertParam(Class<?> paramType, String paramValue) {
-        if (paramType == String.class) {
-            return paramValue;
-        } else if (paramType == Integer.class || paramType == int.class) {
-            return Integer.parseInt(paramValue);
-        } else if (paramType == Long.class || paramType == long.class) {
-            return Long.parseLong(paramValue);
-        } else if (paramType == Double.class || paramType == double.class) {
-            return Double.parseDouble(paramValue);
-        } else if (paramType == Boolean.class || paramType == boolean.class) {
-            return Boolean.parseBoolean(paramValue);
-        } else if (paramType == Float.class || paramType == float.class) {
-            return Float.parseFloat(paramValue);
-        } else if (paramType == Short.class || paramType == short.class) {
-            return Short.parseShort(paramValue);
-        } else if (paramType == Byte.class || paramType == byte.class) {
-            return Byte.parseByte(paramValue);
-        } else if (paramType.isEnum()) {
-            // 尝试转换为枚举类型
-            try {
-                return Enum.valueOf((Class<? extends Enum>)paramType, paramValue);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("无法将值" + paramValue + "转换为枚举类型" + paramType.getName());
-            }
-        }
-        // 对于其他类型，尝试返回字符串值或默认值
-        return paramValue;
+    @GetMapping("/tool-cache-stats")
+    @ResponseBody
+    public Map<String, Object> toolCacheStats() {
+        Map<String, Object> result = cacheStats(toolResultCache.getStats());
+        result.put("tools", toolResultCache.getToolStats());
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("customer", cacheStats(customerService.getIdentityCacheStats()));
+        caches.put("loanProduct", cacheStats(loanProductService.getCacheStats()));
+        result.put("caches", caches);
+        return result;
     }
-    
-    /**
-     * 获取类型的默认值
-     */
-    private Object getDefaultValue(Class<?> paramType) {
-        if (paramType.isPrimitive()) {
-            if (paramType == int.class) return 0;
-            if (paramType == long.class) return 0L;
-            if (paramType == double.class) return 0.0;
-            if (paramType == boolean.class) return false;
-            if (paramType == float.class) return 0.0f;
-            if (paramType == short.class) return (short)0;
-            if (paramType == byte.class) return (byte)0;
-            if (paramType == char.class) return '\0';
-        }
-        return null;
+
+    private static Map<String, Object> cacheStats(CacheStats stats) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
     }
-}
\ No newline at end of file
+}
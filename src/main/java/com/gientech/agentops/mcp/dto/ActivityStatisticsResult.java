@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 营销活动效果统计结果
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ActivityStatisticsResult(boolean success,
+                                       String message,
+                                       ActivityStatistics statistics,
+                                       String status)
+        implements ToolResponse {
+
+    public static ActivityStatisticsResult of(ActivityStatistics statistics) {
+        return new ActivityStatisticsResult(true, null, statistics, "统计完成");
+    }
+
+    public static ActivityStatisticsResult error(String message) {
+        return new ActivityStatisticsResult(false, message, null, null);
+    }
+
+    /**
+     * 活动效果统计
+     */
+    public record ActivityStatistics(String activityId,
+                                     String activityName,
+                                     int participants,
+                                     String conversionRate,
+                                     String revenueGenerated,
+                                     String cost,
+                                     String roi,
+                                     String engagementRate) {
+    }
+}
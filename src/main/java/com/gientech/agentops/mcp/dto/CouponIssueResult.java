@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 优惠券发放结果
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CouponIssueResult(boolean success,
+                                String message,
+                                String customerId,
+                                String reason,
+                                IssuedCoupon issuedCoupon)
+        implements ToolResponse {
+
+    public static CouponIssueResult of(String customerId, String reason, IssuedCoupon issuedCoupon) {
+        return new CouponIssueResult(true, "优惠券发放成功", customerId, reason, issuedCoupon);
+    }
+
+    public static CouponIssueResult error(String message) {
+        return new CouponIssueResult(false, message, null, null, null);
+    }
+
+    /**
+     * 已发放的优惠券
+     */
+    public record IssuedCoupon(String couponInstanceId,
+                               String couponTemplateId,
+                               String couponName,
+                               String discountAmount,
+                               String validUntil,
+                               String status) {
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 客户参与的营销活动查询结果
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerActivitiesResult(boolean success,
+                                       String message,
+                                       String customerId,
+                                       String customerName,
+                                       List<ParticipatedActivity> participatedActivities,
+                                       Integer activityCount)
+        implements ToolResponse {
+
+    public static CustomerActivitiesResult of(String customerId, String customerName,
+                                              List<ParticipatedActivity> participatedActivities) {
+        return new CustomerActivitiesResult(true, null, customerId, customerName,
+                participatedActivities, participatedActivities.size());
+    }
+
+    public static CustomerActivitiesResult error(String message) {
+        return new CustomerActivitiesResult(false, message, null, null, null, null);
+    }
+
+    /**
+     * 客户参与的活动
+     */
+    public record ParticipatedActivity(String activityId,
+                                       String activityName,
+                                       String joinDate,
+                                       String status,
+                                       String rewardAmount,
+                                       String rewardType) {
+    }
+}
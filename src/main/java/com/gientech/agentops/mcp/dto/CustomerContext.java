@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.gientech.agentops.mcp.entity.Customer;
+import com.gientech.agentops.mcp.entity.CustomerCredit;
+import com.gientech.agentops.mcp.entity.LoanContract;
+import com.gientech.agentops.mcp.entity.LoanProduct;
+import com.gientech.agentops.mcp.entity.OverdueRecord;
+import com.gientech.agentops.mcp.entity.RepaymentPlan;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 客户上下文
+ * 由一次关联查询得到的客户、贷款产品、授信、贷款合同及其还款计划/逾期记录
+ */
+@Data
+public class CustomerContext {
+
+    private Long customerId;
+
+    private Customer customer;
+
+    // 未指定产品或产品不存在时为null，由 LoanProductService 的缓存填充
+    private LoanProduct product;
+
+    // 未加载授信或客户未获得该产品授信时为null
+    private CustomerCredit credit;
+
+    private List<LoanContract> contracts = new ArrayList<>();
+
+    private List<RepaymentPlan> repaymentPlans = new ArrayList<>();
+
+    private List<OverdueRecord> overdueRecords = new ArrayList<>();
+}
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import lombok.Data;
+
+/**
+ * 客户上下文查询条件
+ * 通过各个开关决定关联查询中需要带出的数据，未打开的部分不会出现在SQL中
+ * 客户和贷款产品分别由 CustomerService、LoanProductService 的缓存解析为ID后传入
+ */
+@Data
+public class CustomerContextQuery {
+
+    // 客户ID，由 CustomerService 的证件缓存解析得到
+    private Long customerId;
+
+    // 贷款产品ID，为null时不按产品过滤
+    private Long productId;
+
+    // 是否关联客户授信（需要指定productId）
+    private boolean withCredit;
+
+    // 是否关联贷款合同
+    private boolean withContracts;
+
+    // 贷款合同状态过滤，为null时不过滤
+    private String contractStatus;
+
+    // 还款计划起始月份（含，格式：YYYY-MM），为null时不关联还款计划
+    private String planDateFrom;
+
+    // 还款计划截止月份（含，格式：YYYY-MM）
+    private String planDateTo;
+
+    // 是否关联逾期记录（只包含有逾期金额的记录）
+    private boolean withOverdueRecords;
+}
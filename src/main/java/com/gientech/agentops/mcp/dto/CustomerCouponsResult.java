@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 客户优惠券余额查询结果
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerCouponsResult(boolean success,
+                                    String message,
+                                    String customerId,
+                                    String customerName,
+                                    List<CustomerCoupon> coupons,
+                                    Integer totalCoupons)
+        implements ToolResponse {
+
+    public static CustomerCouponsResult of(String customerId, String customerName, List<CustomerCoupon> coupons) {
+        return new CustomerCouponsResult(true, null, customerId, customerName, coupons, coupons.size());
+    }
+
+    public static CustomerCouponsResult error(String message) {
+        return new CustomerCouponsResult(false, message, null, null, null, null);
+    }
+
+    /**
+     * 客户持有的优惠券
+     */
+    public record CustomerCoupon(String couponId,
+                                 String couponName,
+                                 String type,
+                                 String discountAmount,
+                                 String condition,
+                                 String validUntil,
+                                 String status) {
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 客户贷款余额（所有产品）查询结果
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerLoanBalancesResult(boolean success,
+                                         String message,
+                                         String customerName,
+                                         @JsonSerialize(using = AmountSerializer.class) BigDecimal totalLoanBalance,
+                                         List<ProductLoanBalance> productBalances)
+        implements ToolResponse {
+
+    public static CustomerLoanBalancesResult of(String customerName, BigDecimal totalLoanBalance,
+                                                List<ProductLoanBalance> productBalances) {
+        return new CustomerLoanBalancesResult(true, null, customerName, totalLoanBalance, productBalances);
+    }
+
+    public static CustomerLoanBalancesResult error(String message) {
+        return new CustomerLoanBalancesResult(false, message, null, null, null);
+    }
+
+    /**
+     * 单个贷款产品的贷款余额
+     */
+    public record ProductLoanBalance(String productName,
+                                     @JsonSerialize(using = AmountSerializer.class) BigDecimal loanBalance) {
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.gientech.agentops.mcp.dto.CustomerLoanBalancesResult.ProductLoanBalance;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 客户全景查询结果
+ * 未请求的部分为null，不参与序列化
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerPortfolioResult(boolean success,
+                                      String message,
+                                      String customerName,
+                                      List<ProductCredit> credits,
+                                      @JsonSerialize(using = AmountSerializer.class) BigDecimal totalLoanBalance,
+                                      List<ProductLoanBalance> productBalances,
+                                      UpcomingRepayments upcomingRepayments,
+                                      OverdueSummary overdueSummary)
+        implements ToolResponse {
+
+    public static CustomerPortfolioResult of(String customerName, List<ProductCredit> credits,
+                                             BigDecimal totalLoanBalance, List<ProductLoanBalance> productBalances,
+                                             UpcomingRepayments upcomingRepayments, OverdueSummary overdueSummary) {
+        return new CustomerPortfolioResult(true, null, customerName, credits, totalLoanBalance, productBalances,
+                upcomingRepayments, overdueSummary);
+    }
+
+    public static CustomerPortfolioResult error(String message) {
+        return new CustomerPortfolioResult(false, message, null, null, null, null, null, null);
+    }
+
+    /**
+     * 单个贷款产品的授信
+     */
+    public record ProductCredit(String productName,
+                                @JsonSerialize(using = AmountSerializer.class) BigDecimal creditLimit,
+                                @JsonSerialize(using = AmountSerializer.class) BigDecimal availableLimit) {
+    }
+
+    /**
+     * 月份区间内的待还款计划
+     * @param fromMonth 起始月份（格式：YYYY-MM，含）
+     * @param toMonth 截止月份（格式：YYYY-MM，含）
+     */
+    public record UpcomingRepayments(String fromMonth,
+                                     String toMonth,
+                                     @JsonSerialize(using = AmountSerializer.class) BigDecimal totalAmount,
+                                     List<UpcomingRepayment> repayments) {
+    }
+
+    /**
+     * 单条待还款计划
+     */
+    public record UpcomingRepayment(String productName,
+                                    String contractNo,
+                                    String repaymentDate,
+                                    @JsonSerialize(using = AmountSerializer.class) BigDecimal repaymentAmount,
+                                    @JsonSerialize(using = AmountSerializer.class) BigDecimal interestAmount,
+                                    @JsonSerialize(using = AmountSerializer.class) BigDecimal principalAmount,
+                                    String status) {
+    }
+
+    /**
+     * 逾期汇总
+     */
+    public record OverdueSummary(int recordCount,
+                                 @JsonSerialize(using = AmountSerializer.class) BigDecimal overdueAmount,
+                                 @JsonSerialize(using = AmountSerializer.class) BigDecimal penaltyAmount,
+                                 List<ProductOverdue> products) {
+    }
+
+    /**
+     * 单个贷款产品的逾期汇总
+     */
+    public record ProductOverdue(String productName,
+                                 int recordCount,
+                                 @JsonSerialize(using = AmountSerializer.class) BigDecimal overdueAmount,
+                                 @JsonSerialize(using = AmountSerializer.class) BigDecimal penaltyAmount,
+                                 String latestOverdueDate) {
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.gientech.agentops.mcp.entity.OverdueRecord;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 客户逾期记录查询结果
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OverdueRecordsResult(boolean success,
+                                   String message,
+                                   String customerName,
+                                   String productName,
+                                   List<OverdueRecordItem> overdueRecords,
+                                   Integer overdueCount)
+        implements ToolResponse {
+
+    public static OverdueRecordsResult of(String customerName, String productName,
+                                          List<OverdueRecordItem> overdueRecords) {
+        return new OverdueRecordsResult(true, null, customerName, productName, overdueRecords, overdueRecords.size());
+    }
+
+    public static OverdueRecordsResult error(String message) {
+        return new OverdueRecordsResult(false, message, null, null, null, null);
+    }
+
+    /**
+     * 逾期记录条目
+     */
+    public record OverdueRecordItem(String overdueDate,
+                                    @JsonSerialize(using = AmountSerializer.class) BigDecimal dueAmount,
+                                    @JsonSerialize(using = AmountSerializer.class) BigDecimal paidAmount,
+                                    @JsonSerialize(using = AmountSerializer.class) BigDecimal overdueAmount,
+                                    @JsonSerialize(using = AmountSerializer.class) BigDecimal penaltyAmount) {
+
+        public static OverdueRecordItem of(OverdueRecord record) {
+            return new OverdueRecordItem(record.getOverdueDate(), record.getDueAmount(), record.getPaidAmount(),
+                    record.getOverdueAmount(), record.getPenaltyAmount());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.gientech.agentops.mcp.entity.RepaymentPlan;
+
+import java.math.BigDecimal;
+
+/**
+ * 还款计划条目，分页查询时附带合同编号
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RepaymentPlanItem(String contractNo,
+                                String repaymentDate,
+                                @JsonSerialize(using = AmountSerializer.class) BigDecimal repaymentAmount,
+                                @JsonSerialize(using = AmountSerializer.class) BigDecimal interestAmount,
+                                @JsonSerialize(using = AmountSerializer.class) BigDecimal principalAmount,
+                                @JsonSerialize(using = AmountSerializer.class) BigDecimal remainingBalance,
+                                String status) {
+
+    public static RepaymentPlanItem of(RepaymentPlan plan) {
+        return new RepaymentPlanItem(null, plan.getRepaymentDate(), plan.getRepaymentAmount(),
+                plan.getInterestAmount(), plan.getPrincipalAmount(), plan.getRemainingBalance(), plan.getStatus());
+    }
+
+    public static RepaymentPlanItem of(RepaymentScheduleRow row) {
+        return new RepaymentPlanItem(row.getContractNo(), row.getRepaymentDate(), row.getRepaymentAmount(),
+                row.getInterestAmount(), row.getPrincipalAmount(), row.getRemainingBalance(), row.getStatus());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 客户还款计划分页查询结果
+ * 流式推送时 schedule 为空，只返回推送的总条数和页数
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RepaymentScheduleResult(boolean success,
+                                      String message,
+                                      String customerName,
+                                      String productName,
+                                      List<RepaymentPlanItem> schedule,
+                                      Integer count,
+                                      Boolean hasMore,
+                                      String nextCursor,
+                                      Boolean streamed,
+                                      Integer pageCount)
+        implements ToolResponse {
+
+    public static RepaymentScheduleResult page(String customerName, String productName,
+                                               List<RepaymentPlanItem> schedule, boolean hasMore, String nextCursor) {
+        return new RepaymentScheduleResult(true, null, customerName, productName, schedule, schedule.size(),
+                hasMore, nextCursor, null, null);
+    }
+
+    public static RepaymentScheduleResult streamed(String customerName, String productName, int count, int pageCount) {
+        return new RepaymentScheduleResult(true, null, customerName, productName, null, count,
+                false, null, true, pageCount);
+    }
+
+    public static RepaymentScheduleResult error(String message) {
+        return new RepaymentScheduleResult(false, message, null, null, null, null, null, null, null, null);
+    }
+}
@@ -8,11 +8,16 @@ import java.util.List;
 public class SystemDependencyResult {
     private boolean success;
     private List<String> criticalPath;
+    private long criticalPathDays;
+    private List<String> dependencies;
     private List<String> historicalIssues;
 
-    public SystemDependencyResult(boolean success, List<String> criticalPath, List<String> historicalIssues) {
+    public SystemDependencyResult(boolean success, List<String> criticalPath, long criticalPathDays,
+                                  List<String> dependencies, List<String> historicalIssues) {
         this.success = success;
         this.criticalPath = criticalPath;
+        this.criticalPathDays = criticalPathDays;
+        this.dependencies = dependencies;
         this.historicalIssues = historicalIssues;
     }
 
@@ -25,6 +30,14 @@ public class SystemDependencyResult {
         return criticalPath;
     }
 
+    public long getCriticalPathDays() {
+        return criticalPathDays;
+    }
+
+    public List<String> getDependencies() {
+        return dependencies;
+    }
+
     public List<String> getHistoricalIssues() {
         return historicalIssues;
     }
@@ -35,6 +48,8 @@ public class SystemDependencyResult {
         return "SystemDependencyResult{" +
                 "success=" + success +
                 ", criticalPath=" + criticalPath +
+                ", criticalPathDays=" + criticalPathDays +
+                ", dependencies=" + dependencies +
                 ", historicalIssues=" + historicalIssues +
                 '}';
     }
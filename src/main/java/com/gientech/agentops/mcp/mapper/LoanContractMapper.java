@@ -24,11 +24,31 @@
 package com.gientech.agentops.mcp.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.gientech.agentops.mcp.dto.ProductBalance;
 import com.gientech.agentops.mcp.entity.LoanContract;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 贷款合同表Mapper接口
  */
 public interface LoanContractMapper extends BaseMapper<LoanContract> {
-    
+
+    /**
+     * 按贷款产品汇总客户有效贷款合同的余额
+     * @param customerId 客户ID
+     * @return 各贷款产品的贷款余额，按产品ID排序；客户没有有效合同时返回空列表
+     */
+    List<ProductBalance> selectActiveBalancesByProduct(Long customerId);
+
+    /**
+     * 批量按 客户 + 贷款产品 汇总有效贷款合同的余额
+     * @param customerIds 客户ID
+     * @param productIds 贷款产品ID
+     * @return 每个有有效合同的 客户 + 贷款产品 组合一行
+     */
+    List<ProductBalance> selectActiveBalancesByCustomerAndProduct(@Param("customerIds") Collection<Long> customerIds,
+                                                                  @Param("productIds") Collection<Long> productIds);
 }
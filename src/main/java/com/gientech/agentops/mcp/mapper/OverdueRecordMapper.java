@@ -24,11 +24,20 @@
 package com.gientech.agentops.mcp.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.gientech.agentops.mcp.dto.ProductOverdueSummary;
 import com.gientech.agentops.mcp.entity.OverdueRecord;
 
+import java.util.List;
+
 /**
  * 逾期记录表Mapper接口
  */
 public interface OverdueRecordMapper extends BaseMapper<OverdueRecord> {
-    
+
+    /**
+     * 按贷款产品汇总客户全部合同中逾期金额大于0的逾期记录
+     * @param customerId 客户ID
+     * @return 有逾期记录的贷款产品各一行，按产品ID排序
+     */
+    List<ProductOverdueSummary> selectSummaryByProduct(Long customerId);
 }
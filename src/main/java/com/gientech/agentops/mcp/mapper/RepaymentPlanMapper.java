@@ -24,11 +24,40 @@
 package com.gientech.agentops.mcp.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.gientech.agentops.mcp.dto.RepaymentScheduleRow;
 import com.gientech.agentops.mcp.entity.RepaymentPlan;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * 还款计划表Mapper接口
  */
 public interface RepaymentPlanMapper extends BaseMapper<RepaymentPlan> {
-    
+
+    /**
+     * 按 (contract_id, repayment_date) 键集分页查询客户在某产品下有效合同的还款计划
+     * @param customerId 客户ID
+     * @param productId 贷款产品ID
+     * @param afterContractId 上一页最后一行的合同ID，为null时从第一页开始
+     * @param afterDate 上一页最后一行的还款日期
+     * @param limit 本页最多返回的行数
+     * @return 按合同ID、还款日期排序的还款计划
+     */
+    List<RepaymentScheduleRow> selectSchedulePage(@Param("customerId") Long customerId,
+                                                  @Param("productId") Long productId,
+                                                  @Param("afterContractId") Long afterContractId,
+                                                  @Param("afterDate") String afterDate,
+                                                  @Param("limit") int limit);
+
+    /**
+     * 查询客户所有有效合同在指定月份区间内的还款计划
+     * @param customerId 客户ID
+     * @param dateFrom 起始月份（格式：YYYY-MM，含）
+     * @param dateTo 截止月份（格式：YYYY-MM，含）
+     * @return 按还款日期、合同ID排序的还款计划，附带合同编号和贷款产品ID
+     */
+    List<RepaymentScheduleRow> selectUpcomingByCustomer(@Param("customerId") Long customerId,
+                                                        @Param("dateFrom") String dateFrom,
+                                                        @Param("dateTo") String dateTo);
 }
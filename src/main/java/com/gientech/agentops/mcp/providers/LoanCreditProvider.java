@@ -24,42 +24,94 @@
 package com.gientech.agentops.mcp.providers;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.Year;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springaicommunity.mcp.annotation.McpProgressToken;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 
+import com.gientech.agentops.mcp.dto.BatchResult;
+import com.gientech.agentops.mcp.dto.CreditLimitResult;
+import com.gientech.agentops.mcp.dto.CustomerContext;
+import com.gientech.agentops.mcp.dto.CustomerLoanBalancesResult;
+import com.gientech.agentops.mcp.dto.CustomerLoanBalancesResult.ProductLoanBalance;
+import com.gientech.agentops.mcp.dto.CustomerPortfolioResult;
+import com.gientech.agentops.mcp.dto.CustomerPortfolioResult.OverdueSummary;
+import com.gientech.agentops.mcp.dto.CustomerPortfolioResult.ProductCredit;
+import com.gientech.agentops.mcp.dto.CustomerPortfolioResult.ProductOverdue;
+import com.gientech.agentops.mcp.dto.CustomerPortfolioResult.UpcomingRepayment;
+import com.gientech.agentops.mcp.dto.CustomerPortfolioResult.UpcomingRepayments;
+import com.gientech.agentops.mcp.dto.CustomerProductKey;
+import com.gientech.agentops.mcp.dto.LoanBalanceResult;
+import com.gientech.agentops.mcp.dto.OverdueRecordsResult;
+import com.gientech.agentops.mcp.dto.ProductBalance;
+import com.gientech.agentops.mcp.dto.ProductOverdueSummary;
+import com.gientech.agentops.mcp.dto.RepaymentPlanItem;
+import com.gientech.agentops.mcp.dto.RepaymentPlansResult;
+import com.gientech.agentops.mcp.dto.RepaymentScheduleResult;
+import com.gientech.agentops.mcp.dto.RepaymentScheduleRow;
 import com.gientech.agentops.mcp.entity.Customer;
 import com.gientech.agentops.mcp.entity.CustomerCredit;
-import com.gientech.agentops.mcp.entity.LoanContract;
 import com.gientech.agentops.mcp.entity.LoanProduct;
-import com.gientech.agentops.mcp.entity.OverdueRecord;
-import com.gientech.agentops.mcp.entity.RepaymentPlan;
+import com.gientech.agentops.mcp.service.CustomerContextLoader;
 import com.gientech.agentops.mcp.service.CustomerCreditService;
 import com.gientech.agentops.mcp.service.CustomerService;
 import com.gientech.agentops.mcp.service.LoanContractService;
 import com.gientech.agentops.mcp.service.LoanProductService;
 import com.gientech.agentops.mcp.service.OverdueRecordService;
+import com.gientech.agentops.mcp.service.ParallelLookups;
 import com.gientech.agentops.mcp.service.RepaymentPlanService;
+import com.gientech.agentops.mcp.tool.ToolResultCacheable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 /**
  * 零售信贷系统的MCP工具提供者
  * 提供客户授信、贷款余额、还款计划和逾期记录等查询功能
+ * 查询结果在同一MCP会话内短时缓存，见 {@link ToolResultCacheable}
+ * 以 reactive 配置文件（spring.ai.mcp.server.type=ASYNC）启动时由 ReactiveLoanCreditProvider 代替
  */
 @Service
+@ToolResultCacheable
+@ConditionalOnProperty(name = "spring.ai.mcp.server.type", havingValue = "SYNC", matchIfMissing = true)
 public class LoanCreditProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(LoanCreditProvider.class);
 
+    // 批量查询工具单次最多支持的条目数
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    // 还款计划分页的默认及最大每页条数
+    private static final int DEFAULT_SCHEDULE_PAGE_SIZE = 24;
+    private static final int MAX_SCHEDULE_PAGE_SIZE = 240;
+
+    // 客户全景中还款计划的默认及最大月数
+    private static final int DEFAULT_PORTFOLIO_REPAYMENT_MONTHS = 3;
+    private static final int MAX_PORTFOLIO_REPAYMENT_MONTHS = 24;
+
+    @Autowired
+    private CustomerContextLoader customerContextLoader;
+
+    @Autowired
+    private LoanContractService loanContractService;
+
     @Autowired
     private CustomerService customerService;
 
@@ -69,75 +121,43 @@ public class LoanCreditProvider {
     @Autowired
     private CustomerCreditService customerCreditService;
 
-    @Autowired
-    private LoanContractService loanContractService;
-
     @Autowired
     private RepaymentPlanService repaymentPlanService;
 
     @Autowired
     private OverdueRecordService overdueRecordService;
 
+    @Autowired
+    private ParallelLookups parallelLookups;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * 查询客户的授信额度
      * @param name 客户姓名
      * @param idType 证件类型
      * @param idNumber 证件号码
      * @param productName 贷款品种名称
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
      * @return 授信额度，单位元，精确到小数点后2位
      */
     @McpTool(description = "查询客户的授信额度")
-    public Map<String, Object> queryCreditLimit(
+    public CreditLimitResult queryCreditLimit(
             @McpToolParam(description = "客户姓名") String name,
             @McpToolParam(description = "证件类型") String idType,
             @McpToolParam(description = "证件号码") String idNumber,
-            @McpToolParam(description = "贷款品种名称") String productName) {
+            @McpToolParam(description = "贷款品种名称") String productName,
+            McpSyncServerExchange exchange) {
         
         try {
-            // 查询客户
-            Customer customer = customerService.lambdaQuery()
-                    .eq(Customer::getName, name)
-                    .eq(Customer::getIdType, idType)
-                    .eq(Customer::getIdNumber, idNumber)
-                    .one();
-            
-            if (customer == null) {
-                return createErrorResponse("客户不存在");
-            }
-            
-            // 查询贷款产品
-            LoanProduct product = loanProductService.lambdaQuery()
-                    .eq(LoanProduct::getProductName, productName)
-                    .one();
-            
-            if (product == null) {
-                return createErrorResponse("贷款产品不存在");
-            }
-            
-            // 查询客户授信
-            CustomerCredit credit = customerCreditService.lambdaQuery()
-                    .eq(CustomerCredit::getCustomerId, customer.getId())
-                    .eq(CustomerCredit::getProductId, product.getId())
-                    .one();
-            
-            if (credit == null) {
-                return createErrorResponse("客户未获得该产品的授信");
-            }
-            
-            // 格式化返回结果
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("customerName", name);
-            result.put("productName", productName);
-            result.put("creditLimit", formatAmount(credit.getCreditLimit()));
-            result.put("availableLimit", formatAmount(credit.getAvailableLimit()));
-            
-            logger.info("查询客户[{}]的[{}]授信额度成功", name, productName);
-            return result;
+            // 一次查询客户、贷款产品及客户授信
+            CustomerContext context = customerContextLoader.loadCredit(name, idType, idNumber, productName);
+            return LoanCreditResults.creditLimit(context, name, productName);
             
         } catch (Exception e) {
             logger.error("查询客户授信额度失败", e);
-            return createErrorResponse("查询失败：" + e.getMessage());
+            return CreditLimitResult.error("查询失败：" + e.getMessage());
         }
     }
 
@@ -147,66 +167,25 @@ public class LoanCreditProvider {
      * @param idType 证件类型
      * @param idNumber 证件号码
      * @param productName 贷款品种名称
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
      * @return 贷款余额，单位元，精确到小数点后2位
      */
     @McpTool(description = "查询客户的贷款余额（按产品）")
-    public Map<String, Object> queryLoanBalanceByProduct(
+    public LoanBalanceResult queryLoanBalanceByProduct(
             @McpToolParam(description = "客户姓名") String name,
             @McpToolParam(description = "证件类型") String idType,
             @McpToolParam(description = "证件号码") String idNumber,
-            @McpToolParam(description = "贷款品种名称") String productName) {
+            @McpToolParam(description = "贷款品种名称") String productName,
+            McpSyncServerExchange exchange) {
         
         try {
-            // 查询客户
-            Customer customer = customerService.lambdaQuery()
-                    .eq(Customer::getName, name)
-                    .eq(Customer::getIdType, idType)
-                    .eq(Customer::getIdNumber, idNumber)
-                    .one();
-            
-            if (customer == null) {
-                return createErrorResponse("客户不存在");
-            }
-            
-            // 查询贷款产品
-            LoanProduct product = loanProductService.lambdaQuery()
-                    .eq(LoanProduct::getProductName, productName)
-                    .one();
-            
-            if (product == null) {
-                return createErrorResponse("贷款产品不存在");
-            }
-            
-            // 查询贷款合同
-            List<LoanContract> contracts = loanContractService.lambdaQuery()
-                    .eq(LoanContract::getCustomerId, customer.getId())
-                    .eq(LoanContract::getProductId, product.getId())
-                    .eq(LoanContract::getStatus, "ACTIVE")
-                    .list();
-            
-            if (contracts.isEmpty()) {
-                return createErrorResponse("客户在该产品下没有贷款合同");
-            }
-            
-            // 计算总贷款余额
-            BigDecimal totalBalance = BigDecimal.ZERO;
-            for (LoanContract contract : contracts) {
-                totalBalance = totalBalance.add(contract.getLoanBalance());
-            }
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("customerName", name);
-            result.put("productName", productName);
-            result.put("loanBalance", formatAmount(totalBalance));
-            result.put("contractCount", contracts.size());
-            
-            logger.info("查询客户[{}]的[{}]贷款余额成功", name, productName);
-            return result;
+            // 一次查询客户、贷款产品及有效贷款合同
+            CustomerContext context = customerContextLoader.loadContracts(name, idType, idNumber, productName, "ACTIVE");
+            return LoanCreditResults.loanBalance(context, name, productName);
             
         } catch (Exception e) {
             logger.error("查询贷款余额失败", e);
-            return createErrorResponse("查询失败：" + e.getMessage());
+            return LoanBalanceResult.error("查询失败：" + e.getMessage());
         }
     }
 
@@ -215,70 +194,28 @@ public class LoanCreditProvider {
      * @param name 客户姓名
      * @param idType 证件类型
      * @param idNumber 证件号码
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
      * @return 各贷款品种的贷款余额列表
      */
     @McpTool(description = "查询客户的贷款余额（所有产品）")
-    public Map<String, Object> queryLoanBalancesByCustomer(
+    public CustomerLoanBalancesResult queryLoanBalancesByCustomer(
             @McpToolParam(description = "客户姓名") String name,
             @McpToolParam(description = "证件类型") String idType,
-            @McpToolParam(description = "证件号码") String idNumber) {
+            @McpToolParam(description = "证件号码") String idNumber,
+            McpSyncServerExchange exchange) {
         
         try {
             // 查询客户
-            Customer customer = customerService.lambdaQuery()
-                    .eq(Customer::getName, name)
-                    .eq(Customer::getIdType, idType)
-                    .eq(Customer::getIdNumber, idNumber)
-                    .one();
+            CustomerContext context = customerContextLoader.loadCustomer(name, idType, idNumber);
             
-            if (customer == null) {
-                return createErrorResponse("客户不存在");
-            }
-            
-            // 查询所有贷款合同
-            List<LoanContract> contracts = loanContractService.lambdaQuery()
-                    .eq(LoanContract::getCustomerId, customer.getId())
-                    .eq(LoanContract::getStatus, "ACTIVE")
-                    .list();
-            
-            if (contracts.isEmpty()) {
-                return createErrorResponse("客户没有任何贷款合同");
-            }
-            
-            // 按产品分组计算余额
-            Map<String, BigDecimal> productBalances = new HashMap<>();
-            for (LoanContract contract : contracts) {
-                LoanProduct product = loanProductService.getById(contract.getProductId());
-                if (product != null) {
-                    String productName = product.getProductName();
-                    BigDecimal balance = contract.getLoanBalance();
-                    productBalances.put(productName, productBalances.getOrDefault(productName, BigDecimal.ZERO).add(balance));
-                }
-            }
-            
-            // 格式化返回结果
-            List<Map<String, Object>> balanceList = new ArrayList<>();
-            BigDecimal totalBalance = BigDecimal.ZERO;
-            for (Map.Entry<String, BigDecimal> entry : productBalances.entrySet()) {
-                Map<String, Object> balanceInfo = new HashMap<>();
-                balanceInfo.put("productName", entry.getKey());
-                balanceInfo.put("loanBalance", formatAmount(entry.getValue()));
-                balanceList.add(balanceInfo);
-                totalBalance = totalBalance.add(entry.getValue());
-            }
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("customerName", name);
-            result.put("totalLoanBalance", formatAmount(totalBalance));
-            result.put("productBalances", balanceList);
-            
-            logger.info("查询客户[{}]的所有贷款余额成功", name);
-            return result;
+            // 在数据库中按产品分组汇总有效贷款合同的余额
+            List<ProductBalance> productBalances = context != null
+                    ? loanContractService.listActiveBalancesByProduct(context.getCustomerId()) : List.of();
+            return LoanCreditResults.loanBalances(context, productBalances, name);
             
         } catch (Exception e) {
             logger.error("查询贷款余额列表失败", e);
-            return createErrorResponse("查询失败：" + e.getMessage());
+            return CustomerLoanBalancesResult.error("查询失败：" + e.getMessage());
         }
     }
 
@@ -288,90 +225,170 @@ public class LoanCreditProvider {
      * @param idType 证件类型
      * @param idNumber 证件号码
      * @param productName 贷款品种名称
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
      * @return 今年的还款计划列表
      */
     @McpTool(description = "查询客户的还款计划")
-    public Map<String, Object> queryRepaymentPlans(
+    public RepaymentPlansResult queryRepaymentPlans(
             @McpToolParam(description = "客户姓名") String name,
             @McpToolParam(description = "证件类型") String idType,
             @McpToolParam(description = "证件号码") String idNumber,
-            @McpToolParam(description = "贷款品种名称") String productName) {
+            @McpToolParam(description = "贷款品种名称") String productName,
+            McpSyncServerExchange exchange) {
         
         try {
-            // 查询客户
-            Customer customer = customerService.lambdaQuery()
-                    .eq(Customer::getName, name)
-                    .eq(Customer::getIdType, idType)
-                    .eq(Customer::getIdNumber, idNumber)
-                    .one();
+            // 获取当前年份
+            String currentYear = String.valueOf(Year.now().getValue());
             
-            if (customer == null) {
-                return createErrorResponse("客户不存在");
-            }
+            // 一次查询客户、贷款产品、有效贷款合同及今年的还款计划，还款计划已在SQL中按日期排序
+            CustomerContext context = customerContextLoader.loadRepaymentPlans(name, idType, idNumber, productName, currentYear);
+            return LoanCreditResults.repaymentPlans(context, name, productName, currentYear);
             
-            // 查询贷款产品
-            LoanProduct product = loanProductService.lambdaQuery()
-                    .eq(LoanProduct::getProductName, productName)
-                    .one();
+        } catch (Exception e) {
+            logger.error("查询还款计划失败", e);
+            return RepaymentPlansResult.error("查询失败：" + e.getMessage());
+        }
+    }
+
+    /**
+     * 分页查询客户的完整还款计划（不限年份）
+     * 按 (合同, 还款日期) 键集分页，通过返回的 nextCursor 读取下一页；
+     * streamProgress 为true且客户端提供了进度令牌时，从游标处读取剩余的全部还款计划，每页以一条进度通知推送
+     * @param name 客户姓名
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @param productName 贷款品种名称
+     * @param cursor 分页游标，首页为空
+     * @param pageSize 每页条数
+     * @param streamProgress 是否通过进度通知逐页推送
+     * @param progressToken 客户端请求中的进度令牌，由框架注入
+     * @param exchange MCP会话上下文，由框架注入
+     * @return 本页还款计划及下一页游标；流式推送时只返回汇总信息
+     */
+    @McpTool(description = "分页查询客户的完整还款计划")
+    @ToolResultCacheable(enabled = false)
+    public RepaymentScheduleResult queryRepaymentSchedule(
+            @McpToolParam(description = "客户姓名") String name,
+            @McpToolParam(description = "证件类型") String idType,
+            @McpToolParam(description = "证件号码") String idNumber,
+            @McpToolParam(description = "贷款品种名称") String productName,
+            @McpToolParam(description = "分页游标，首页不传，后续传上一页返回的nextCursor", required = false) String cursor,
+            @McpToolParam(description = "每页条数，默认24，最大240", required = false) Integer pageSize,
+            @McpToolParam(description = "是否通过进度通知逐页推送剩余的全部还款计划", required = false) Boolean streamProgress,
+            @McpProgressToken String progressToken,
+            McpSyncServerExchange exchange) {
+        
+        ScheduleCursor position;
+        try {
+            position = cursor == null || cursor.isEmpty() ? null : ScheduleCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return RepaymentScheduleResult.error("无效的分页游标");
+        }
+        int limit = pageSize == null || pageSize <= 0
+                ? DEFAULT_SCHEDULE_PAGE_SIZE : Math.min(pageSize, MAX_SCHEDULE_PAGE_SIZE);
+        boolean streaming = Boolean.TRUE.equals(streamProgress) && progressToken != null && exchange != null;
+        
+        try {
+            // 并行查询客户和贷款产品
+            CustomerContext context = customerContextLoader.loadProduct(name, idType, idNumber, productName);
             
-            if (product == null) {
-                return createErrorResponse("贷款产品不存在");
+            if (context == null) {
+                return RepaymentScheduleResult.error("客户不存在");
             }
             
-            // 查询贷款合同
-            List<LoanContract> contracts = loanContractService.lambdaQuery()
-                    .eq(LoanContract::getCustomerId, customer.getId())
-                    .eq(LoanContract::getProductId, product.getId())
-                    .eq(LoanContract::getStatus, "ACTIVE")
-                    .list();
-            
-            if (contracts.isEmpty()) {
-                return createErrorResponse("客户在该产品下没有贷款合同");
+            if (context.getProduct() == null) {
+                return RepaymentScheduleResult.error("贷款产品不存在");
             }
             
-            // 获取当前年份
-            String currentYear = String.valueOf(Year.now().getValue());
-            
-            // 查询今年的还款计划
-            List<Map<String, Object>> repaymentPlans = new ArrayList<>();
-            for (LoanContract contract : contracts) {
-                List<RepaymentPlan> plans = repaymentPlanService.lambdaQuery()
-                        .eq(RepaymentPlan::getContractId, contract.getId())
-                        .like(RepaymentPlan::getRepaymentDate, currentYear)
-                        .list();
+            Customer customer = context.getCustomer();
+            LoanProduct product = context.getProduct();
+            
+            if (!streaming) {
+                // 多取一行用于判断是否还有下一页
+                List<RepaymentScheduleRow> page = repaymentPlanService.listSchedulePage(customer.getId(), product.getId(),
+                        position != null ? position.contractId() : null,
+                        position != null ? position.repaymentDate() : null, limit + 1);
+                boolean hasMore = page.size() > limit;
+                if (hasMore) {
+                    page = page.subList(0, limit);
+                }
                 
-                for (RepaymentPlan plan : plans) {
-                    Map<String, Object> planInfo = new HashMap<>();
-                    planInfo.put("repaymentDate", plan.getRepaymentDate());
-                    planInfo.put("repaymentAmount", formatAmount(plan.getRepaymentAmount()));
-                    planInfo.put("interestAmount", formatAmount(plan.getInterestAmount()));
-                    planInfo.put("principalAmount", formatAmount(plan.getPrincipalAmount()));
-                    planInfo.put("remainingBalance", formatAmount(plan.getRemainingBalance()));
-                    planInfo.put("status", plan.getStatus());
-                    repaymentPlans.add(planInfo);
+                if (position == null && page.isEmpty()) {
+                    return RepaymentScheduleResult.error("客户在该产品下没有还款计划");
                 }
+                
+                RepaymentScheduleRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+                logger.info("分页查询客户[{}]的[{}]还款计划成功，本页{}条", name, productName, page.size());
+                return RepaymentScheduleResult.page(name, productName, toScheduleItems(page), hasMore,
+                        hasMore ? ScheduleCursor.of(last).encode() : null);
             }
             
-            if (repaymentPlans.isEmpty()) {
-                return createErrorResponse("今年没有还款计划");
+            // 逐页读取并推送，直到读完
+            int sent = 0;
+            int pageCount = 0;
+            boolean hasMore = true;
+            while (hasMore) {
+                List<RepaymentScheduleRow> page = repaymentPlanService.listSchedulePage(customer.getId(), product.getId(),
+                        position != null ? position.contractId() : null,
+                        position != null ? position.repaymentDate() : null, limit + 1);
+                hasMore = page.size() > limit;
+                if (hasMore) {
+                    page = page.subList(0, limit);
+                }
+                if (page.isEmpty()) {
+                    break;
+                }
+                
+                sent += page.size();
+                pageCount++;
+                position = ScheduleCursor.of(page.get(page.size() - 1));
+                exchange.progressNotification(new McpSchema.ProgressNotification(progressToken, sent, null,
+                        objectMapper.writeValueAsString(toScheduleItems(page))));
             }
             
-            // 按日期排序
-            repaymentPlans.sort((a, b) -> a.get("repaymentDate").toString().compareTo(b.get("repaymentDate").toString()));
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("customerName", name);
-            result.put("productName", productName);
-            result.put("year", currentYear);
-            result.put("repaymentPlans", repaymentPlans);
+            if (sent == 0 && (cursor == null || cursor.isEmpty())) {
+                return RepaymentScheduleResult.error("客户在该产品下没有还款计划");
+            }
             
-            logger.info("查询客户[{}]的[{}]还款计划成功", name, productName);
-            return result;
+            logger.info("流式推送客户[{}]的[{}]还款计划成功，共{}页{}条", name, productName, pageCount, sent);
+            return RepaymentScheduleResult.streamed(name, productName, sent, pageCount);
             
         } catch (Exception e) {
-            logger.error("查询还款计划失败", e);
-            return createErrorResponse("查询失败：" + e.getMessage());
+            logger.error("分页查询还款计划失败", e);
+            return RepaymentScheduleResult.error("查询失败：" + e.getMessage());
+        }
+    }
+
+    // 辅助方法：转换还款计划分页数据
+    private List<RepaymentPlanItem> toScheduleItems(List<RepaymentScheduleRow> rows) {
+        List<RepaymentPlanItem> schedule = new ArrayList<>(rows.size());
+        for (RepaymentScheduleRow row : rows) {
+            schedule.add(RepaymentPlanItem.of(row));
+        }
+        return schedule;
+    }
+
+    /**
+     * 还款计划分页游标：上一页最后一行的 (合同ID, 还款日期)，以URL安全的Base64编码传给客户端
+     */
+    private record ScheduleCursor(long contractId, String repaymentDate) {
+
+        static ScheduleCursor of(RepaymentScheduleRow row) {
+            return new ScheduleCursor(row.getContractId(), row.getRepaymentDate());
+        }
+
+        static ScheduleCursor decode(String cursor) {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            return new ScheduleCursor(Long.parseLong(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((contractId + ":" + repaymentDate).getBytes(StandardCharsets.UTF_8));
         }
     }
 
@@ -381,97 +398,311 @@ public class LoanCreditProvider {
      * @param idType 证件类型
      * @param idNumber 证件号码
      * @param productName 贷款品种名称
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
      * @return 该贷款品种的逾期记录
      */
     @McpTool(description = "查询客户的逾期记录")
-    public Map<String, Object> queryOverdueRecords(
+    public OverdueRecordsResult queryOverdueRecords(
             @McpToolParam(description = "客户姓名") String name,
             @McpToolParam(description = "证件类型") String idType,
             @McpToolParam(description = "证件号码") String idNumber,
-            @McpToolParam(description = "贷款品种名称") String productName) {
+            @McpToolParam(description = "贷款品种名称") String productName,
+            McpSyncServerExchange exchange) {
         
         try {
-            // 查询客户
-            Customer customer = customerService.lambdaQuery()
-                    .eq(Customer::getName, name)
-                    .eq(Customer::getIdType, idType)
-                    .eq(Customer::getIdNumber, idNumber)
-                    .one();
+            // 一次查询客户、贷款产品、贷款合同及其逾期记录
+            // 逾期记录已在SQL中过滤掉无逾期金额的记录并按日期排序
+            CustomerContext context = customerContextLoader.loadOverdueRecords(name, idType, idNumber, productName);
+            return LoanCreditResults.overdueRecords(context, name, productName);
+            
+        } catch (Exception e) {
+            logger.error("查询逾期记录失败", e);
+            return OverdueRecordsResult.error("查询失败：" + e.getMessage());
+        }
+    }
+
+    /**
+     * 查询客户全景：各产品授信、贷款余额、近期还款计划及逾期汇总
+     * 只解析一次客户，每个部分各用一次集合查询，未请求的部分不查询也不返回
+     * @param name 客户姓名
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @param sections 返回的部分，可选 credits、balances、repayments、overdue，为空时返回全部
+     * @param repaymentMonths 还款计划的月数，从本月起算，默认3个月
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
+     * @return 客户全景
+     */
+    @McpTool(description = "查询客户全景：各产品授信、贷款余额、近期还款计划及逾期汇总，可只返回需要的部分")
+    public CustomerPortfolioResult queryCustomerPortfolio(
+            @McpToolParam(description = "客户姓名") String name,
+            @McpToolParam(description = "证件类型") String idType,
+            @McpToolParam(description = "证件号码") String idNumber,
+            @McpToolParam(description = "返回的部分：credits（授信）、balances（贷款余额）、repayments（近期还款计划）、overdue（逾期汇总），为空时返回全部", required = false) List<String> sections,
+            @McpToolParam(description = "还款计划的月数，从本月起算，默认3", required = false) Integer repaymentMonths,
+            McpSyncServerExchange exchange) {
+        
+        Set<PortfolioSection> requested;
+        try {
+            requested = PortfolioSection.parse(sections);
+        } catch (IllegalArgumentException e) {
+            return CustomerPortfolioResult.error(e.getMessage());
+        }
+        int months = repaymentMonths == null || repaymentMonths <= 0
+                ? DEFAULT_PORTFOLIO_REPAYMENT_MONTHS : Math.min(repaymentMonths, MAX_PORTFOLIO_REPAYMENT_MONTHS);
+        
+        try {
+            Customer customer = customerService.getByIdentity(name, idType, idNumber);
             
             if (customer == null) {
-                return createErrorResponse("客户不存在");
+                return CustomerPortfolioResult.error("客户不存在");
             }
             
-            // 查询贷款产品
-            LoanProduct product = loanProductService.lambdaQuery()
-                    .eq(LoanProduct::getProductName, productName)
-                    .one();
+            List<ProductCredit> credits = null;
+            if (requested.contains(PortfolioSection.CREDITS)) {
+                List<CustomerCredit> customerCredits = customerCreditService.listByCustomer(customer.getId());
+                credits = new ArrayList<>(customerCredits.size());
+                for (CustomerCredit credit : customerCredits) {
+                    credits.add(new ProductCredit(productName(credit.getProductId()),
+                            credit.getCreditLimit(), credit.getAvailableLimit()));
+                }
+            }
             
-            if (product == null) {
-                return createErrorResponse("贷款产品不存在");
+            BigDecimal totalBalance = null;
+            List<ProductLoanBalance> balances = null;
+            if (requested.contains(PortfolioSection.BALANCES)) {
+                List<ProductBalance> productBalances = loanContractService.listActiveBalancesByProduct(customer.getId());
+                totalBalance = BigDecimal.ZERO;
+                balances = new ArrayList<>(productBalances.size());
+                for (ProductBalance productBalance : productBalances) {
+                    balances.add(new ProductLoanBalance(productBalance.getProductName(), productBalance.getLoanBalance()));
+                    totalBalance = totalBalance.add(productBalance.getLoanBalance());
+                }
             }
             
-            // 查询贷款合同
-            List<LoanContract> contracts = loanContractService.lambdaQuery()
-                    .eq(LoanContract::getCustomerId, customer.getId())
-                    .eq(LoanContract::getProductId, product.getId())
-                    .list();
+            UpcomingRepayments upcoming = null;
+            if (requested.contains(PortfolioSection.REPAYMENTS)) {
+                // 还款日期格式为 YYYY-MM，与 YearMonth 的字符串形式一致
+                YearMonth from = YearMonth.now();
+                YearMonth to = from.plusMonths(months - 1);
+                List<RepaymentScheduleRow> rows = repaymentPlanService.listUpcomingByCustomer(
+                        customer.getId(), from.toString(), to.toString());
+                BigDecimal totalAmount = BigDecimal.ZERO;
+                List<UpcomingRepayment> repayments = new ArrayList<>(rows.size());
+                for (RepaymentScheduleRow row : rows) {
+                    repayments.add(new UpcomingRepayment(productName(row.getProductId()), row.getContractNo(),
+                            row.getRepaymentDate(), row.getRepaymentAmount(), row.getInterestAmount(),
+                            row.getPrincipalAmount(), row.getStatus()));
+                    totalAmount = totalAmount.add(row.getRepaymentAmount());
+                }
+                upcoming = new UpcomingRepayments(from.toString(), to.toString(), totalAmount, repayments);
+            }
             
-            if (contracts.isEmpty()) {
-                return createErrorResponse("客户在该产品下没有贷款合同");
+            OverdueSummary overdue = null;
+            if (requested.contains(PortfolioSection.OVERDUE)) {
+                List<ProductOverdueSummary> summaries = overdueRecordService.listSummaryByProduct(customer.getId());
+                int recordCount = 0;
+                BigDecimal overdueAmount = BigDecimal.ZERO;
+                BigDecimal penaltyAmount = BigDecimal.ZERO;
+                List<ProductOverdue> products = new ArrayList<>(summaries.size());
+                for (ProductOverdueSummary summary : summaries) {
+                    products.add(new ProductOverdue(productName(summary.getProductId()), summary.getRecordCount(),
+                            summary.getOverdueAmount(), summary.getPenaltyAmount(), summary.getLatestOverdueDate()));
+                    recordCount += summary.getRecordCount();
+                    overdueAmount = overdueAmount.add(summary.getOverdueAmount());
+                    penaltyAmount = penaltyAmount.add(summary.getPenaltyAmount());
+                }
+                overdue = new OverdueSummary(recordCount, overdueAmount, penaltyAmount, products);
             }
             
-            // 查询逾期记录
-            List<Map<String, Object>> overdueRecords = new ArrayList<>();
-            for (LoanContract contract : contracts) {
-                List<OverdueRecord> records = overdueRecordService.lambdaQuery()
-                        .eq(OverdueRecord::getContractId, contract.getId())
+            logger.info("查询客户[{}]的全景信息成功，返回部分：{}", name, requested);
+            return CustomerPortfolioResult.of(name, credits, totalBalance, balances, upcoming, overdue);
+            
+        } catch (Exception e) {
+            logger.error("查询客户全景失败", e);
+            return CustomerPortfolioResult.error("查询失败：" + e.getMessage());
+        }
+    }
+
+    // 贷款产品名称从 LoanProductService 的缓存中解析
+    private String productName(Long productId) {
+        LoanProduct product = loanProductService.getCachedById(productId);
+        return product != null ? product.getProductName() : null;
+    }
+
+    /**
+     * 批量查询客户的授信额度
+     * 无论条目数多少，客户、贷款产品和授信都以固定次数的集合查询获取
+     * @param items 查询条目列表
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
+     * @return 与查询条目顺序一致的结果列表，每条结果与 queryCreditLimit 的返回结构相同
+     */
+    @McpTool(description = "批量查询客户的授信额度")
+    public BatchResult<CreditLimitResult> queryCreditLimitsBatch(
+            @McpToolParam(description = "查询条目列表，每条包含证件类型、证件号码和贷款品种名称") List<CustomerProductKey> items,
+            McpSyncServerExchange exchange) {
+        
+        if (items == null || items.isEmpty()) {
+            return BatchResult.error("查询条目不能为空");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            return BatchResult.error("批量查询最多支持" + MAX_BATCH_SIZE + "条");
+        }
+        
+        try {
+            BatchItems batch = resolveBatchItems(items);
+            
+            // 一次查询所有涉及的客户授信
+            Map<Long, Map<Long, CustomerCredit>> creditsByCustomer = new HashMap<>();
+            if (!batch.customerIds().isEmpty() && !batch.productIds().isEmpty()) {
+                List<CustomerCredit> credits = customerCreditService.lambdaQuery()
+                        .in(CustomerCredit::getCustomerId, batch.customerIds())
+                        .in(CustomerCredit::getProductId, batch.productIds())
                         .list();
-                
-                for (OverdueRecord record : records) {
-                    // 只返回有逾期金额的记录
-                    if (record.getOverdueAmount().compareTo(BigDecimal.ZERO) > 0) {
-                        Map<String, Object> recordInfo = new HashMap<>();
-                        recordInfo.put("overdueDate", record.getOverdueDate());
-                        recordInfo.put("dueAmount", formatAmount(record.getDueAmount()));
-                        recordInfo.put("paidAmount", formatAmount(record.getPaidAmount()));
-                        recordInfo.put("overdueAmount", formatAmount(record.getOverdueAmount()));
-                        recordInfo.put("penaltyAmount", formatAmount(record.getPenaltyAmount()));
-                        overdueRecords.add(recordInfo);
-                    }
+                for (CustomerCredit credit : credits) {
+                    creditsByCustomer.computeIfAbsent(credit.getCustomerId(), k -> new HashMap<>())
+                            .put(credit.getProductId(), credit);
                 }
             }
             
-            // 按日期排序
-            overdueRecords.sort((a, b) -> a.get("overdueDate").toString().compareTo(b.get("overdueDate").toString()));
+            List<CreditLimitResult> results = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                Customer customer = batch.customers().get(i);
+                LoanProduct product = batch.products().get(i);
+                if (customer == null) {
+                    results.add(CreditLimitResult.error("客户不存在"));
+                } else if (product == null) {
+                    results.add(CreditLimitResult.error("贷款产品不存在"));
+                } else {
+                    CustomerCredit credit = creditsByCustomer.getOrDefault(customer.getId(), Map.of()).get(product.getId());
+                    results.add(credit != null
+                            ? CreditLimitResult.of(customer.getName(), product.getProductName(), credit)
+                            : CreditLimitResult.error("客户未获得该产品的授信"));
+                }
+            }
             
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("customerName", name);
-            result.put("productName", productName);
-            result.put("overdueRecords", overdueRecords);
-            result.put("overdueCount", overdueRecords.size());
+            logger.info("批量查询{}条客户授信额度成功", items.size());
+            return BatchResult.of(results);
             
-            logger.info("查询客户[{}]的[{}]逾期记录成功", name, productName);
-            return result;
+        } catch (Exception e) {
+            logger.error("批量查询客户授信额度失败", e);
+            return BatchResult.error("查询失败：" + e.getMessage());
+        }
+    }
+
+    /**
+     * 批量查询客户的贷款余额（按产品）
+     * 无论条目数多少，客户、贷款产品和余额汇总都以固定次数的集合查询获取
+     * @param items 查询条目列表
+     * @param exchange MCP会话上下文，由框架注入，用于按会话缓存结果
+     * @return 与查询条目顺序一致的结果列表，每条结果与 queryLoanBalanceByProduct 的返回结构相同
+     */
+    @McpTool(description = "批量查询客户的贷款余额（按产品）")
+    public BatchResult<LoanBalanceResult> queryLoanBalancesBatch(
+            @McpToolParam(description = "查询条目列表，每条包含证件类型、证件号码和贷款品种名称") List<CustomerProductKey> items,
+            McpSyncServerExchange exchange) {
+        
+        if (items == null || items.isEmpty()) {
+            return BatchResult.error("查询条目不能为空");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            return BatchResult.error("批量查询最多支持" + MAX_BATCH_SIZE + "条");
+        }
+        
+        try {
+            BatchItems batch = resolveBatchItems(items);
+            
+            // 在数据库中按 客户 + 产品 一次汇总有效贷款合同的余额
+            Map<Long, Map<Long, ProductBalance>> balancesByCustomer = new HashMap<>();
+            List<ProductBalance> balances = loanContractService.listActiveBalancesByCustomerAndProduct(
+                    batch.customerIds(), batch.productIds());
+            for (ProductBalance balance : balances) {
+                balancesByCustomer.computeIfAbsent(balance.getCustomerId(), k -> new HashMap<>())
+                        .put(balance.getProductId(), balance);
+            }
+            
+            List<LoanBalanceResult> results = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                Customer customer = batch.customers().get(i);
+                LoanProduct product = batch.products().get(i);
+                if (customer == null) {
+                    results.add(LoanBalanceResult.error("客户不存在"));
+                } else if (product == null) {
+                    results.add(LoanBalanceResult.error("贷款产品不存在"));
+                } else {
+                    ProductBalance balance = balancesByCustomer.getOrDefault(customer.getId(), Map.of()).get(product.getId());
+                    results.add(balance != null
+                            ? LoanBalanceResult.of(customer.getName(), product.getProductName(),
+                                    balance.getLoanBalance(), balance.getContractCount())
+                            : LoanBalanceResult.error("客户在该产品下没有贷款合同"));
+                }
+            }
+            
+            logger.info("批量查询{}条客户贷款余额成功", items.size());
+            return BatchResult.of(results);
             
         } catch (Exception e) {
-            logger.error("查询逾期记录失败", e);
-            return createErrorResponse("查询失败：" + e.getMessage());
+            logger.error("批量查询贷款余额失败", e);
+            return BatchResult.error("查询失败：" + e.getMessage());
+        }
+    }
+
+    // 辅助方法：批量解析客户和贷款产品，结果与查询条目顺序一致
+    private BatchItems resolveBatchItems(List<CustomerProductKey> items) {
+        List<String> idTypes = new ArrayList<>(items.size());
+        List<String> idNumbers = new ArrayList<>(items.size());
+        for (CustomerProductKey item : items) {
+            idTypes.add(item != null ? item.getIdType() : null);
+            idNumbers.add(item != null ? item.getIdNumber() : null);
+        }
+        
+        // 客户集合查询与贷款产品解析相互独立，并行执行
+        ParallelLookups.Pair<List<Customer>, List<LoanProduct>> found = parallelLookups.both(
+                () -> customerService.listByIdentities(idTypes, idNumbers),
+                () -> {
+                    List<LoanProduct> resolved = new ArrayList<>(items.size());
+                    for (CustomerProductKey item : items) {
+                        resolved.add(item != null ? loanProductService.getByProductName(item.getProductName()) : null);
+                    }
+                    return resolved;
+                });
+        List<Customer> customers = found.first();
+        List<LoanProduct> products = found.second();
+        
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (customers.get(i) != null && products.get(i) != null) {
+                customerIds.add(customers.get(i).getId());
+                productIds.add(products.get(i).getId());
+            }
         }
+        return new BatchItems(customers, products, customerIds, productIds);
     }
 
-    // 辅助方法：格式化金额为保留2位小数的字符串
-    private String formatAmount(BigDecimal amount) {
-        return amount.setScale(2, RoundingMode.HALF_UP)
-                .toString();
+    /**
+     * 客户全景的组成部分
+     */
+    private enum PortfolioSection {
+        CREDITS, BALANCES, REPAYMENTS, OVERDUE;
+
+        // 为空时返回全部部分，名称不区分大小写
+        static Set<PortfolioSection> parse(List<String> names) {
+            if (names == null || names.isEmpty()) {
+                return EnumSet.allOf(PortfolioSection.class);
+            }
+            Set<PortfolioSection> sections = EnumSet.noneOf(PortfolioSection.class);
+            for (String name : names) {
+                try {
+                    sections.add(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    throw new IllegalArgumentException("未知的返回部分：" + name);
+                }
+            }
+            return sections;
+        }
     }
 
-    // 辅助方法：创建错误响应
-    private Map<String, Object> createErrorResponse(String message) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("success", false);
-        result.put("message", message);
-        return result;
+    private record BatchItems(List<Customer> customers, List<LoanProduct> products,
+                              Set<Long> customerIds, Set<Long> productIds) {
     }
 }
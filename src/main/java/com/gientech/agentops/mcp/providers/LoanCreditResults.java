@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.providers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gientech.agentops.mcp.dto.CreditLimitResult;
+import com.gientech.agentops.mcp.dto.CustomerContext;
+import com.gientech.agentops.mcp.dto.CustomerLoanBalancesResult;
+import com.gientech.agentops.mcp.dto.CustomerLoanBalancesResult.ProductLoanBalance;
+import com.gientech.agentops.mcp.dto.LoanBalanceResult;
+import com.gientech.agentops.mcp.dto.OverdueRecordsResult;
+import com.gientech.agentops.mcp.dto.OverdueRecordsResult.OverdueRecordItem;
+import com.gientech.agentops.mcp.dto.ProductBalance;
+import com.gientech.agentops.mcp.dto.RepaymentPlanItem;
+import com.gientech.agentops.mcp.dto.RepaymentPlansResult;
+import com.gientech.agentops.mcp.entity.CustomerCredit;
+import com.gientech.agentops.mcp.entity.LoanContract;
+import com.gientech.agentops.mcp.entity.OverdueRecord;
+import com.gientech.agentops.mcp.entity.RepaymentPlan;
+
+/**
+ * 零售信贷查询工具的结果组装
+ * 由阻塞（MyBatis-Plus）和响应式（R2DBC）两套工具提供者共用，
+ * 两者只负责加载 {@link CustomerContext}，错误判断顺序和返回结构在这里统一
+ */
+final class LoanCreditResults {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanCreditResults.class);
+
+    private LoanCreditResults() {
+    }
+
+    /**
+     * @param context 客户、贷款产品及授信，客户不存在时为null
+     */
+    static CreditLimitResult creditLimit(CustomerContext context, String name, String productName) {
+        if (context == null) {
+            return CreditLimitResult.error("客户不存在");
+        }
+        
+        if (context.getProduct() == null) {
+            return CreditLimitResult.error("贷款产品不存在");
+        }
+        
+        CustomerCredit credit = context.getCredit();
+        
+        if (credit == null) {
+            return CreditLimitResult.error("客户未获得该产品的授信");
+        }
+        
+        logger.info("查询客户[{}]的[{}]授信额度成功", name, productName);
+        return CreditLimitResult.of(name, productName, credit);
+    }
+
+    /**
+     * @param context 客户、贷款产品及有效贷款合同，客户不存在时为null
+     */
+    static LoanBalanceResult loanBalance(CustomerContext context, String name, String productName) {
+        if (context == null) {
+            return LoanBalanceResult.error("客户不存在");
+        }
+        
+        if (context.getProduct() == null) {
+            return LoanBalanceResult.error("贷款产品不存在");
+        }
+        
+        List<LoanContract> contracts = context.getContracts();
+        
+        if (contracts.isEmpty()) {
+            return LoanBalanceResult.error("客户在该产品下没有贷款合同");
+        }
+        
+        // 计算总贷款余额
+        BigDecimal totalBalance = BigDecimal.ZERO;
+        for (LoanContract contract : contracts) {
+            totalBalance = totalBalance.add(contract.getLoanBalance());
+        }
+        
+        logger.info("查询客户[{}]的[{}]贷款余额成功", name, productName);
+        return LoanBalanceResult.of(name, productName, totalBalance, contracts.size());
+    }
+
+    /**
+     * @param context 客户，客户不存在时为null
+     * @param productBalances 按产品分组汇总的有效贷款合同余额，客户不存在时不使用
+     */
+    static CustomerLoanBalancesResult loanBalances(CustomerContext context, List<ProductBalance> productBalances,
+                                                   String name) {
+        if (context == null) {
+            return CustomerLoanBalancesResult.error("客户不存在");
+        }
+        
+        if (productBalances.isEmpty()) {
+            return CustomerLoanBalancesResult.error("客户没有任何贷款合同");
+        }
+        
+        // 格式化返回结果
+        List<ProductLoanBalance> balanceList = new ArrayList<>(productBalances.size());
+        BigDecimal totalBalance = BigDecimal.ZERO;
+        for (ProductBalance productBalance : productBalances) {
+            balanceList.add(new ProductLoanBalance(productBalance.getProductName(), productBalance.getLoanBalance()));
+            totalBalance = totalBalance.add(productBalance.getLoanBalance());
+        }
+        
+        logger.info("查询客户[{}]的所有贷款余额成功", name);
+        return CustomerLoanBalancesResult.of(name, totalBalance, balanceList);
+    }
+
+    /**
+     * @param context 客户、贷款产品、有效贷款合同及按日期排序的还款计划，客户不存在时为null
+     */
+    static RepaymentPlansResult repaymentPlans(CustomerContext context, String name, String productName,
+                                               String year) {
+        if (context == null) {
+            return RepaymentPlansResult.error("客户不存在");
+        }
+        
+        if (context.getProduct() == null) {
+            return RepaymentPlansResult.error("贷款产品不存在");
+        }
+        
+        if (context.getContracts().isEmpty()) {
+            return RepaymentPlansResult.error("客户在该产品下没有贷款合同");
+        }
+        
+        List<RepaymentPlanItem> repaymentPlans = new ArrayList<>(context.getRepaymentPlans().size());
+        for (RepaymentPlan plan : context.getRepaymentPlans()) {
+            repaymentPlans.add(RepaymentPlanItem.of(plan));
+        }
+        
+        if (repaymentPlans.isEmpty()) {
+            return RepaymentPlansResult.error("今年没有还款计划");
+        }
+        
+        logger.info("查询客户[{}]的[{}]还款计划成功", name, productName);
+        return RepaymentPlansResult.of(name, productName, year, repaymentPlans);
+    }
+
+    /**
+     * @param context 客户、贷款产品、贷款合同及按日期排序的逾期记录，客户不存在时为null
+     */
+    static OverdueRecordsResult overdueRecords(CustomerContext context, String name, String productName) {
+        if (context == null) {
+            return OverdueRecordsResult.error("客户不存在");
+        }
+        
+        if (context.getProduct() == null) {
+            return OverdueRecordsResult.error("贷款产品不存在");
+        }
+        
+        if (context.getContracts().isEmpty()) {
+            return OverdueRecordsResult.error("客户在该产品下没有贷款合同");
+        }
+        
+        List<OverdueRecordItem> overdueRecords = new ArrayList<>(context.getOverdueRecords().size());
+        for (OverdueRecord record : context.getOverdueRecords()) {
+            overdueRecords.add(OverdueRecordItem.of(record));
+        }
+        
+        logger.info("查询客户[{}]的[{}]逾期记录成功", name, productName);
+        return OverdueRecordsResult.of(name, productName, overdueRecords);
+    }
+}
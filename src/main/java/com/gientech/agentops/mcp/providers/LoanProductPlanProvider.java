@@ -4,37 +4,33 @@ import com.gientech.agentops.mcp.dto.ComplianceCheckResult;
 import com.gientech.agentops.mcp.dto.ResourceSchedulerResult;
 import com.gientech.agentops.mcp.dto.RiskAssessmentResult;
 import com.gientech.agentops.mcp.dto.SystemDependencyResult;
+import com.gientech.agentops.mcp.service.DependencyGraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.*;
 
 @Service
 public class LoanProductPlanProvider {
     private static final Logger logger = LoggerFactory.getLogger(LoanProductPlanProvider.class);
-    private static final String DATE_FORMAT = "yyyy-MM-dd";
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
-    private static final Date CONFLICT_END_DATE;
-    // 依赖关系图 - 核心系统改造依赖项
-    private static final Map<String, List<String>> dependencyGraph = new HashMap<>();
+    // DateTimeFormatter 不可变，可在并发调用间共享；严格模式下不接受 2023-02-30 这类日期
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final String CONFLICT_END_DATE = "2023-11-10";
+    // 冲突窗口结束日以纪元日表示，开始日期早于它即存在冲突
+    private static final long CONFLICT_END_EPOCH_DAY = LocalDate.parse(CONFLICT_END_DATE, DATE_FORMAT).toEpochDay();
 
-
-    static {
-        dependencyGraph.put("核心系统改造", Arrays.asList("风控模型集成", "渠道接口开发"));
-        dependencyGraph.put("征信接口对接", Arrays.asList("反欺诈系统对接"));
-        dependencyGraph.put("风控模型集成", Arrays.asList("数据中台对接"));
-
-        try {
-            CONFLICT_END_DATE = dateFormat.parse("2023-11-10");
-        } catch (ParseException e) {
-            throw new RuntimeException("日期格式初始化失败", e);
-        }
-    }
+    // 依赖关系图，启动时从配置文件编译
+    @Autowired
+    private DependencyGraph dependencyGraph;
 
     /**
      * 合规检查方法
@@ -130,27 +126,27 @@ public class LoanProductPlanProvider {
             throw new IllegalArgumentException("开始日期参数不能为空");
         }
 
+        // 解析日期
+        long startEpochDay;
         try {
-            // 解析日期
-            Date start = dateFormat.parse(startDate);
-
-            // 检查资源冲突
-            if ("技术团队".equals(team) &&
-                    requiredTasks.contains("系统改造") &&
-                    start.before(CONFLICT_END_DATE)) {
-
-                List<String> conflicts = new ArrayList<>();
-                conflicts.add("核心系统升级项目占用资源");
+            startEpochDay = LocalDate.parse(startDate, DATE_FORMAT).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("日期格式错误，应为yyyy-MM-dd格式", e);
+        }
 
-                return new ResourceSchedulerResult(false, "2023-11-10", conflicts);
-            }
+        // 检查资源冲突
+        if ("技术团队".equals(team) &&
+                requiredTasks.contains("系统改造") &&
+                startEpochDay < CONFLICT_END_EPOCH_DAY) {
 
-            // 资源可用
-            return new ResourceSchedulerResult(true, null, new ArrayList<>());
+            List<String> conflicts = new ArrayList<>();
+            conflicts.add("核心系统升级项目占用资源");
 
-        } catch (ParseException e) {
-            throw new IllegalArgumentException("日期格式错误，应为yyyy-MM-dd格式", e);
+            return new ResourceSchedulerResult(false, CONFLICT_END_DATE, conflicts);
         }
+
+        // 资源可用
+        return new ResourceSchedulerResult(true, null, new ArrayList<>());
     }
 
     /**
@@ -166,24 +162,11 @@ public class LoanProductPlanProvider {
             throw new IllegalArgumentException("系统变更参数不能为空");
         }
 
-        // 计算关键路径
-        Set<String> criticalPathSet = new HashSet<>();
-        for (String change : systemChanges) {
-            if (dependencyGraph.containsKey(change)) {
-                criticalPathSet.addAll(dependencyGraph.get(change));
-            }
-        }
-
-        // 转换为列表
-        List<String> criticalPath = new ArrayList<>(criticalPathSet);
-
-        // 检查历史问题
-        List<String> historicalIssues = new ArrayList<>();
-        if (systemChanges.contains("核心系统改造")) {
-            historicalIssues.add("核心系统改造常因表结构调整影响其他模块");
-        }
+        // 传递依赖、关键路径及历史问题均由编译后的依赖关系图给出
+        DependencyGraph.Analysis analysis = dependencyGraph.analyze(systemChanges);
 
         // 返回结果
-        return new SystemDependencyResult(true, criticalPath, historicalIssues);
+        return new SystemDependencyResult(true, analysis.criticalPath(), analysis.criticalPathDays(),
+                analysis.dependencies(), analysis.historicalIssues());
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.service;
+
+import com.gientech.agentops.mcp.dto.CustomerContext;
+import com.gientech.agentops.mcp.dto.CustomerContextQuery;
+import com.gientech.agentops.mcp.entity.Customer;
+import com.gientech.agentops.mcp.entity.LoanProduct;
+import com.gientech.agentops.mcp.mapper.CustomerContextMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 客户上下文加载器
+ * 将 客户 -> 授信/贷款合同 -> 还款计划/逾期记录 的逐级查询合并为一次关联查询，
+ * 每次加载最多产生一次数据库往返；客户和贷款产品分别从 CustomerService、LoanProductService 的缓存中解析，
+ * 贷款产品缓存未命中时两者通过 {@link ParallelLookups} 并行查询
+ */
+@Service
+public class CustomerContextLoader {
+
+    @Autowired
+    private CustomerContextMapper customerContextMapper;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private LoanProductService loanProductService;
+
+    @Autowired
+    private ParallelLookups parallelLookups;
+
+    /**
+     * 只加载客户，缓存命中时不访问数据库
+     * @return 客户上下文，客户不存在时返回null
+     */
+    public CustomerContext loadCustomer(String name, String idType, String idNumber) {
+        Customer customer = customerService.getByIdentity(name, idType, idNumber);
+        return customer != null ? newContext(customer) : null;
+    }
+
+    /**
+     * 加载客户、贷款产品及客户在该产品下的授信
+     * @return 客户上下文，客户不存在时返回null
+     */
+    public CustomerContext loadCredit(String name, String idType, String idNumber, String productName) {
+        CustomerContextQuery query = new CustomerContextQuery();
+        query.setWithCredit(true);
+        return load(query, name, idType, idNumber, productName);
+    }
+
+    /**
+     * 加载客户、贷款产品（可为null，表示所有产品）及贷款合同
+     * @param contractStatus 合同状态，为null时不过滤
+     * @return 客户上下文，客户不存在时返回null
+     */
+    public CustomerContext loadContracts(String name, String idType, String idNumber,
+                                         String productName, String contractStatus) {
+        CustomerContextQuery query = new CustomerContextQuery();
+        query.setWithContracts(true);
+        query.setContractStatus(contractStatus);
+        return load(query, name, idType, idNumber, productName);
+    }
+
+    /**
+     * 加载客户、贷款产品、该产品下的有效贷款合同及其指定年份的还款计划
+     * 还款计划已按还款日期排序
+     * @param year 年份（格式：YYYY）
+     * @return 客户上下文，客户不存在时返回null
+     */
+    public CustomerContext loadRepaymentPlans(String name, String idType, String idNumber,
+                                              String productName, String year) {
+        CustomerContextQuery query = new CustomerContextQuery();
+        query.setWithContracts(true);
+        query.setContractStatus("ACTIVE");
+        // 使用月份区间代替 LIKE，可以走 uk_contract_date(contract_id, repayment_date) 索引
+        query.setPlanDateFrom(year + "-01");
+        query.setPlanDateTo(year + "-12");
+        return load(query, name, idType, idNumber, productName);
+    }
+
+    /**
+     * 加载客户、贷款产品、该产品下的全部贷款合同及其逾期记录
+     * 逾期记录只包含逾期金额大于0的记录，并已按逾期日期排序
+     * @return 客户上下文，客户不存在时返回null
+     */
+    public CustomerContext loadOverdueRecords(String name, String idType, String idNumber, String productName) {
+        CustomerContextQuery query = new CustomerContextQuery();
+        query.setWithContracts(true);
+        query.setWithOverdueRecords(true);
+        return load(query, name, idType, idNumber, productName);
+    }
+
+    /**
+     * 加载客户及贷款产品，不加载关联数据
+     * @return 客户上下文，客户不存在时返回null；产品不存在时其中的产品为null
+     */
+    public CustomerContext loadProduct(String name, String idType, String idNumber, String productName) {
+        ParallelLookups.Pair<Customer, LoanProduct> found = findCustomerAndProduct(name, idType, idNumber, productName);
+        if (found.first() == null) {
+            return null;
+        }
+        CustomerContext context = newContext(found.first());
+        context.setProduct(found.second());
+        return context;
+    }
+
+    // 并行解析客户和贷款产品后执行关联查询；客户不存在时丢弃产品查询，保证"客户不存在"优先于"贷款产品不存在"；
+    // 产品不存在时直接返回只含客户的上下文
+    private CustomerContext load(CustomerContextQuery query, String name, String idType, String idNumber,
+                                 String productName) {
+        ParallelLookups.Pair<Customer, LoanProduct> found = findCustomerAndProduct(name, idType, idNumber, productName);
+        Customer customer = found.first();
+        if (customer == null) {
+            return null;
+        }
+        query.setCustomerId(customer.getId());
+
+        LoanProduct product = found.second();
+        if (productName != null) {
+            if (product == null) {
+                return newContext(customer);
+            }
+            query.setProductId(product.getId());
+        }
+
+        CustomerContext context = customerContextMapper.selectCustomerContext(query);
+        if (context != null) {
+            context.setProduct(product);
+        }
+        return context;
+    }
+
+    // 客户和贷款产品相互独立。贷款产品只有几条且几乎总在缓存中，命中时在调用线程上直接解析，
+    // 避免为一次内存读取付出线程池排队和线程切换；只有产品缓存未命中时才与客户查询并行执行
+    private ParallelLookups.Pair<Customer, LoanProduct> findCustomerAndProduct(String name, String idType,
+                                                                               String idNumber, String productName) {
+        Optional<LoanProduct> cachedProduct = productName != null
+                ? loanProductService.getCachedByProductName(productName) : Optional.empty();
+        if (cachedProduct != null) {
+            return new ParallelLookups.Pair<>(customerService.getByIdentity(name, idType, idNumber),
+                    cachedProduct.orElse(null));
+        }
+        return parallelLookups.both(
+                () -> customerService.getByIdentity(name, idType, idNumber),
+                Objects::isNull,
+                () -> productName != null ? loanProductService.getByProductName(productName) : null);
+    }
+
+    private CustomerContext newContext(Customer customer) {
+        CustomerContext context = new CustomerContext();
+        context.setCustomerId(customer.getId());
+        context.setCustomer(customer);
+        return context;
+    }
+}
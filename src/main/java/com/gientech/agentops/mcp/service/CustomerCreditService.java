@@ -26,9 +26,17 @@ package com.gientech.agentops.mcp.service;
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.gientech.agentops.mcp.entity.CustomerCredit;
 
+import java.util.List;
+
 /**
  * 客户授信表Service接口
  */
 public interface CustomerCreditService extends IService<CustomerCredit> {
-    
+
+    /**
+     * 查询客户在所有贷款产品下的授信
+     * @param customerId 客户ID
+     * @return 按贷款产品ID排序的授信列表
+     */
+    List<CustomerCredit> listByCustomer(Long customerId);
 }
@@ -25,10 +25,47 @@ package com.gientech.agentops.mcp.service;
 
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.gientech.agentops.mcp.entity.Customer;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.List;
 
 /**
  * 客户信息表Service接口
  */
 public interface CustomerService extends IService<Customer> {
-    
+
+    /**
+     * 按证件类型和证件号码（uk_id_type_number）查询客户，结果经过本地缓存，
+     * 客户不存在的结果同样会被缓存
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @return 客户，不存在时返回null
+     */
+    Customer getByIdentity(String idType, String idNumber);
+
+    /**
+     * 按姓名、证件类型和证件号码查询客户，在缓存结果上校验姓名
+     * @return 客户，不存在或姓名不匹配时返回null
+     */
+    Customer getByIdentity(String name, String idType, String idNumber);
+
+    /**
+     * 按证件类型和证件号码批量查询客户，缓存未命中的部分合并为一次查询
+     * @param idTypes 证件类型
+     * @param idNumbers 证件号码，与 idTypes 一一对应
+     * @return 与入参顺序一致的客户列表，不存在的位置为null
+     */
+    List<Customer> listByIdentities(List<String> idTypes, List<String> idNumbers);
+
+    /**
+     * 清空客户证件缓存
+     * 通过本Service写入（含批量、按条件及 update()/lambdaUpdate() 链式写入）时会自动剔除，
+     * 直接通过 CustomerMapper 或SQL修改 customer 表后需要手动调用
+     */
+    void invalidateIdentityCache();
+
+    /**
+     * 客户证件缓存的命中/未命中统计
+     */
+    CacheStats getIdentityCacheStats();
 }
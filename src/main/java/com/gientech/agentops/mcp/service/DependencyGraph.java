@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 编译后的系统依赖关系图
+ * 构建时将系统名映射为按拓扑顺序编号的整数ID，依赖关系存为邻接数组，并预先计算每个节点的传递依赖位图
+ * 和以该节点结束的最长工期路径。图不可变，可在并发查询间共享；查询只合并所涉及节点的位图并沿前驱回溯关键路径，
+ * 不再遍历整个图
+ */
+public final class DependencyGraph {
+
+    private final Map<String, Integer> ids;
+
+    // 以下数组均按拓扑序号索引，依赖项的序号总是小于依赖它的节点
+    private final String[] names;
+
+    private final int[] durations;
+
+    // 节点i的直接依赖为 dependencies[dependencyOffsets[i] .. dependencyOffsets[i + 1])
+    private final int[] dependencyOffsets;
+
+    private final int[] dependencies;
+
+    // 节点i的传递依赖位图，只需覆盖序号小于i的节点
+    private final long[][] closures;
+
+    // 以节点i结束的最长路径总工期（含节点i）及路径上节点i的前驱，无依赖时前驱为-1
+    private final long[] finishDays;
+
+    private final int[] criticalPredecessors;
+
+    private final List<String>[] historicalIssues;
+
+    @SuppressWarnings("unchecked")
+    private DependencyGraph(List<Node> nodes) {
+        // 驻留节点名，依赖中出现但未单独声明的系统视为无依赖、工期为0的节点
+        Map<String, Integer> declared = new HashMap<>();
+        List<String> allNames = new ArrayList<>();
+        for (Node node : nodes) {
+            if (declared.putIfAbsent(node.name(), allNames.size()) != null) {
+                throw new IllegalArgumentException("依赖关系图中重复定义了系统: " + node.name());
+            }
+            allNames.add(node.name());
+        }
+        Map<String, Integer> interned = new HashMap<>(declared);
+        for (Node node : nodes) {
+            for (String dependency : node.dependsOn()) {
+                if (interned.putIfAbsent(dependency, allNames.size()) == null) {
+                    allNames.add(dependency);
+                }
+            }
+        }
+        int n = allNames.size();
+
+        int[][] directDependencies = new int[n][];
+        int[] inDegree = new int[n];
+        int[][] dependents = new int[n][];
+        int[] dependentCounts = new int[n];
+        for (int i = 0; i < n; i++) {
+            directDependencies[i] = new int[0];
+        }
+        for (Node node : nodes) {
+            int id = declared.get(node.name());
+            int[] deps = node.dependsOn().stream().distinct().mapToInt(interned::get).toArray();
+            directDependencies[id] = deps;
+            inDegree[id] = deps.length;
+            for (int dep : deps) {
+                dependentCounts[dep]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            dependents[i] = new int[dependentCounts[i]];
+            dependentCounts[i] = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            for (int dep : directDependencies[i]) {
+                dependents[dep][dependentCounts[dep]++] = i;
+            }
+        }
+
+        // Kahn算法求拓扑序，按声明顺序处理无依赖节点以保证结果稳定
+        int[] rankOf = new int[n];
+        int[] order = new int[n];
+        int ranked = 0;
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                ready.add(i);
+            }
+        }
+        while (!ready.isEmpty()) {
+            int id = ready.poll();
+            rankOf[id] = ranked;
+            order[ranked++] = id;
+            for (int dependent : dependents[id]) {
+                if (--inDegree[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (ranked < n) {
+            List<String> cyclic = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (inDegree[i] > 0) {
+                    cyclic.add(allNames.get(i));
+                }
+            }
+            throw new IllegalArgumentException("依赖关系图存在循环依赖: " + cyclic);
+        }
+
+        Map<String, Node> nodesByName = new HashMap<>();
+        for (Node node : nodes) {
+            nodesByName.put(node.name(), node);
+        }
+
+        // 按拓扑序号重新编号并展开为邻接数组
+        this.ids = new HashMap<>(n * 2);
+        this.names = new String[n];
+        this.durations = new int[n];
+        this.historicalIssues = new List[n];
+        this.dependencyOffsets = new int[n + 1];
+        int edgeCount = 0;
+        for (int[] deps : directDependencies) {
+            edgeCount += deps.length;
+        }
+        this.dependencies = new int[edgeCount];
+        int edge = 0;
+        for (int rank = 0; rank < n; rank++) {
+            int id = order[rank];
+            String name = allNames.get(id);
+            Node node = nodesByName.get(name);
+            ids.put(name, rank);
+            names[rank] = name;
+            durations[rank] = node != null ? node.durationDays() : 0;
+            historicalIssues[rank] = node != null ? List.copyOf(node.historicalIssues()) : List.of();
+            dependencyOffsets[rank] = edge;
+            for (int dep : directDependencies[id]) {
+                dependencies[edge++] = rankOf[dep];
+            }
+        }
+        dependencyOffsets[n] = edge;
+
+        // 按拓扑序依次合并直接依赖的位图，并计算以每个节点结束的最长工期路径
+        this.closures = new long[n][];
+        this.finishDays = new long[n];
+        this.criticalPredecessors = new int[n];
+        for (int i = 0; i < n; i++) {
+            long[] closure = new long[(i >> 6) + 1];
+            long longest = 0;
+            int predecessor = -1;
+            for (int e = dependencyOffsets[i]; e < dependencyOffsets[i + 1]; e++) {
+                int dep = dependencies[e];
+                long[] depClosure = closures[dep];
+                for (int w = 0; w < depClosure.length; w++) {
+                    closure[w] |= depClosure[w];
+                }
+                closure[dep >> 6] |= 1L << dep;
+                if (predecessor < 0 || finishDays[dep] > longest) {
+                    longest = finishDays[dep];
+                    predecessor = dep;
+                }
+            }
+            closures[i] = closure;
+            finishDays[i] = longest + durations[i];
+            criticalPredecessors[i] = predecessor;
+        }
+    }
+
+    /**
+     * 编译依赖关系图
+     * @param nodes 系统节点，依赖项可以引用未单独声明的系统
+     * @return 编译后的依赖关系图
+     * @throws IllegalArgumentException 节点重复定义或存在循环依赖
+     */
+    public static DependencyGraph compile(List<Node> nodes) {
+        return new DependencyGraph(nodes);
+    }
+
+    /**
+     * 图中的系统数
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 分析一组系统变更的依赖
+     * 依赖项为所有变更的传递依赖（不含变更本身，除非它是另一项变更的依赖），按拓扑顺序排列；
+     * 关键路径为以任一变更结束的最长工期依赖链，按执行顺序排列。图中不存在的变更视为无依赖
+     * @param changes 计划进行的系统变更
+     * @return 分析结果
+     */
+    public Analysis analyze(Collection<String> changes) {
+        // 去重并保持输入顺序
+        Set<String> distinct = new LinkedHashSet<>(changes);
+        int[] ranks = new int[distinct.size()];
+        int count = 0;
+        int words = 0;
+        for (String change : distinct) {
+            Integer rank = ids.get(change);
+            if (rank == null) {
+                continue;
+            }
+            ranks[count++] = rank;
+            words = Math.max(words, closures[rank].length);
+        }
+
+        long[] union = new long[words];
+        int end = -1;
+        List<String> issues = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int rank = ranks[i];
+            long[] closure = closures[rank];
+            for (int w = 0; w < closure.length; w++) {
+                union[w] |= closure[w];
+            }
+            if (end < 0 || finishDays[rank] > finishDays[end]) {
+                end = rank;
+            }
+            issues.addAll(historicalIssues[rank]);
+        }
+
+        List<String> dependencyNames = new ArrayList<>();
+        for (int w = 0; w < union.length; w++) {
+            long word = union[w];
+            while (word != 0) {
+                dependencyNames.add(names[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+
+        if (end < 0) {
+            return new Analysis(dependencyNames, List.of(), 0, issues);
+        }
+        List<String> criticalPath = new ArrayList<>();
+        for (int node = end; node >= 0; node = criticalPredecessors[node]) {
+            criticalPath.add(names[node]);
+        }
+        Collections.reverse(criticalPath);
+        return new Analysis(dependencyNames, criticalPath, finishDays[end], issues);
+    }
+
+    /**
+     * 系统节点定义
+     * @param name 系统名称
+     * @param durationDays 改造工期（天）
+     * @param dependsOn 直接依赖的系统
+     * @param historicalIssues 改造该系统时的历史问题
+     */
+    public record Node(String name, int durationDays, List<String> dependsOn, List<String> historicalIssues) {
+
+        public Node {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("系统名称不能为空");
+            }
+            if (durationDays < 0) {
+                throw new IllegalArgumentException("系统" + name + "的工期不能为负数");
+            }
+            dependsOn = dependsOn != null ? dependsOn : List.of();
+            historicalIssues = historicalIssues != null ? historicalIssues : List.of();
+        }
+    }
+
+    /**
+     * 依赖分析结果
+     * @param dependencies 传递依赖，按拓扑顺序排列
+     * @param criticalPath 关键路径，按执行顺序排列
+     * @param criticalPathDays 关键路径总工期（天）
+     * @param historicalIssues 变更系统的历史问题
+     */
+    public record Analysis(List<String> dependencies, List<String> criticalPath, long criticalPathDays,
+                           List<String> historicalIssues) {
+    }
+}
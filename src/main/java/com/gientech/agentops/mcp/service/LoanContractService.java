@@ -24,11 +24,29 @@
 package com.gientech.agentops.mcp.service;
 
 import com.baomidou.mybatisplus.extension.service.IService;
+import com.gientech.agentops.mcp.dto.ProductBalance;
 import com.gientech.agentops.mcp.entity.LoanContract;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 贷款合同表Service接口
  */
 public interface LoanContractService extends IService<LoanContract> {
-    
+
+    /**
+     * 按贷款产品汇总客户有效贷款合同的余额
+     * @param customerId 客户ID
+     * @return 各贷款产品的贷款余额，按产品ID排序
+     */
+    List<ProductBalance> listActiveBalancesByProduct(Long customerId);
+
+    /**
+     * 批量按 客户 + 贷款产品 汇总有效贷款合同的余额
+     * @param customerIds 客户ID
+     * @param productIds 贷款产品ID
+     * @return 每个有有效合同的 客户 + 贷款产品 组合一行，包含合同数
+     */
+    List<ProductBalance> listActiveBalancesByCustomerAndProduct(Collection<Long> customerIds, Collection<Long> productIds);
 }
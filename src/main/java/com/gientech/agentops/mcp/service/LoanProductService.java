@@ -25,10 +25,44 @@ package com.gientech.agentops.mcp.service;
 
 import com.baomidou.mybatisplus.extension.service.IService;
 import com.gientech.agentops.mcp.entity.LoanProduct;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.Optional;
 
 /**
  * 贷款产品表Service接口
  */
 public interface LoanProductService extends IService<LoanProduct> {
-    
+
+    /**
+     * 按产品名称查询贷款产品，结果经过本地缓存
+     * @param productName 贷款品种名称
+     * @return 贷款产品，不存在时返回null
+     */
+    LoanProduct getByProductName(String productName);
+
+    /**
+     * 只从本地缓存中按产品名称查询贷款产品，不访问数据库
+     * @param productName 贷款品种名称
+     * @return 缓存的查询结果，产品不存在时为空；未缓存时返回null
+     */
+    Optional<LoanProduct> getCachedByProductName(String productName);
+
+    /**
+     * 按ID查询贷款产品，结果经过本地缓存
+     * @param id 贷款产品ID
+     * @return 贷款产品，不存在时返回null
+     */
+    LoanProduct getCachedById(Long id);
+
+    /**
+     * 清空贷款产品缓存
+     * 通过本Service写入时会自动调用，绕过本Service修改 loan_product 表后需要手动调用
+     */
+    void invalidateCache();
+
+    /**
+     * 贷款产品缓存的命中/未命中统计（按名称和按ID两个索引合计）
+     */
+    CacheStats getCacheStats();
 }
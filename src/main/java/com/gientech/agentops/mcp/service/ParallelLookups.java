@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.service;
+
+import com.gientech.agentops.mcp.tool.ToolInvocation;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 工具内相互独立的查询的并行执行
+ * 第二个查询提交到有界线程池，第一个查询在调用线程上执行。
+ * 第一个查询失败或其结果已能决定工具结果（如客户不存在）时取消第二个查询；第二个查询的失败在第一个查询成功后才抛出，
+ * 因此错误优先级与顺序执行时相同。取消只阻止尚未开始的查询，不中断正在执行的JDBC调用（中断可能导致连接被关闭），其结果被丢弃
+ *
+ * 线程池满时由调用线程执行，退化为顺序执行而不是拒绝；mcp4ail.lookup.parallelism=0 时始终顺序执行。
+ * 工作线程上执行的SQL通过 {@link ToolInvocation#propagate(Supplier)} 计入发起调用的工具
+ */
+@Component
+public class ParallelLookups {
+
+    private final ThreadPoolExecutor executor;
+
+    public ParallelLookups(@Value("${mcp4ail.lookup.parallelism:8}") int parallelism,
+                           @Value("${mcp4ail.lookup.queue-capacity:256}") int queueCapacity) {
+        if (parallelism <= 0) {
+            this.executor = null;
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "lookup-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 并行执行两个独立的查询
+     * @param first 在调用线程上执行的查询
+     * @param second 在线程池中执行的查询
+     * @return 两个查询的结果
+     */
+    public <A, B> Pair<A, B> both(Supplier<A> first, Supplier<B> second) {
+        return both(first, a -> false, second);
+    }
+
+    /**
+     * 并行执行两个独立的查询，第一个查询的结果满足 skipSecond 时取消第二个查询
+     * 用于保持原有的错误优先级：例如客户不存在时不论产品查询的结果如何都返回"客户不存在"
+     * @param first 在调用线程上执行的查询
+     * @param skipSecond 判断是否不再需要第二个查询的结果
+     * @param second 在线程池中执行的查询
+     * @return 两个查询的结果；跳过第二个查询时其结果为null
+     */
+    public <A, B> Pair<A, B> both(Supplier<A> first, Predicate<A> skipSecond, Supplier<B> second) {
+        if (executor == null) {
+            A a = first.get();
+            return new Pair<>(a, skipSecond.test(a) ? null : second.get());
+        }
+
+        Callable<B> task = ToolInvocation.propagate(second)::get;
+        Future<B> future = executor.submit(task);
+        A a;
+        try {
+            a = first.get();
+        } catch (RuntimeException | Error e) {
+            future.cancel(false);
+            throw e;
+        }
+        if (skipSecond.test(a)) {
+            future.cancel(false);
+            return new Pair<>(a, null);
+        }
+
+        try {
+            return new Pair<>(a, future.get());
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("并行查询被中断");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 两个查询的结果
+     */
+    public record Pair<A, B>(A first, B second) {
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.extension.conditions.update.LambdaUpdateChainWrapper;
+import com.baomidou.mybatisplus.extension.conditions.update.UpdateChainWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 带本地缓存的Service实现基类
+ * 覆盖 ServiceImpl 的全部写入方法，写入后剔除缓存，子类不会因为漏掉某个写入方法而返回过期数据：
+ * 单条写入调用 {@link #evictEntity} / {@link #evictById}，默认清空整个缓存，子类可以只剔除涉及的记录；
+ * 批量写入和按条件写入（含 update()/lambdaUpdate() 链式写入）无法确定涉及的记录，调用 {@link #evictAll}
+ * @param <M> Mapper类型
+ * @param <T> 实体类型
+ */
+public abstract class CacheInvalidatingServiceImpl<M extends BaseMapper<T>, T> extends ServiceImpl<M, T> {
+
+    /**
+     * 清空整个缓存
+     */
+    protected abstract void evictAll();
+
+    /**
+     * 剔除单个实体的缓存，在更新前后和删除前调用，更新前调用时实体中的字段可能是修改后的值
+     * @param entity 写入的实体
+     */
+    protected void evictEntity(T entity) {
+        evictAll();
+    }
+
+    /**
+     * 剔除单个ID对应记录的缓存，在删除前调用
+     * @param id 记录ID
+     */
+    protected void evictById(Serializable id) {
+        evictAll();
+    }
+
+    @Override
+    public boolean save(T entity) {
+        try {
+            return super.save(entity);
+        } finally {
+            // 剔除该记录可能存在的负缓存
+            evictEntity(entity);
+        }
+    }
+
+    @Override
+    public boolean saveOrUpdate(T entity) {
+        // 更新可能修改缓存键，新旧两份缓存都要剔除
+        evictEntity(entity);
+        try {
+            return super.saveOrUpdate(entity);
+        } finally {
+            evictEntity(entity);
+        }
+    }
+
+    @Override
+    public boolean updateById(T entity) {
+        evictEntity(entity);
+        try {
+            return super.updateById(entity);
+        } finally {
+            evictEntity(entity);
+        }
+    }
+
+    @Override
+    public boolean removeById(Serializable id) {
+        evictById(id);
+        return super.removeById(id);
+    }
+
+    @Override
+    public boolean removeById(Serializable id, boolean useFill) {
+        evictById(id);
+        return super.removeById(id, useFill);
+    }
+
+    @Override
+    public boolean removeById(T entity) {
+        evictEntity(entity);
+        return super.removeById(entity);
+    }
+
+    @Override
+    public boolean saveBatch(Collection<T> entityList, int batchSize) {
+        try {
+            return super.saveBatch(entityList, batchSize);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean saveOrUpdateBatch(Collection<T> entityList, int batchSize) {
+        try {
+            return super.saveOrUpdateBatch(entityList, batchSize);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean updateBatchById(Collection<T> entityList, int batchSize) {
+        try {
+            return super.updateBatchById(entityList, batchSize);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean update(T entity, Wrapper<T> updateWrapper) {
+        try {
+            return super.update(entity, updateWrapper);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean remove(Wrapper<T> queryWrapper) {
+        try {
+            return super.remove(queryWrapper);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean removeByMap(Map<String, Object> columnMap) {
+        try {
+            return super.removeByMap(columnMap);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean removeByIds(Collection<?> list) {
+        try {
+            return super.removeByIds(list);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean removeByIds(Collection<?> list, boolean useFill) {
+        try {
+            return super.removeByIds(list, useFill);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean removeBatchByIds(Collection<?> list, int batchSize) {
+        try {
+            return super.removeBatchByIds(list, batchSize);
+        } finally {
+            evictAll();
+        }
+    }
+
+    @Override
+    public boolean removeBatchByIds(Collection<?> list, int batchSize, boolean useFill) {
+        try {
+            return super.removeBatchByIds(list, batchSize, useFill);
+        } finally {
+            evictAll();
+        }
+    }
+
+    // 链式写入直接调用Mapper，不经过上面的方法，在执行写入的方法上剔除缓存
+    @Override
+    public UpdateChainWrapper<T> update() {
+        return new UpdateChainWrapper<>(getBaseMapper()) {
+            @Override
+            public boolean update(T entity) {
+                try {
+                    return super.update(entity);
+                } finally {
+                    evictAll();
+                }
+            }
+
+            @Override
+            public boolean remove() {
+                try {
+                    return super.remove();
+                } finally {
+                    evictAll();
+                }
+            }
+        };
+    }
+
+    @Override
+    public LambdaUpdateChainWrapper<T> lambdaUpdate() {
+        return new LambdaUpdateChainWrapper<>(getBaseMapper()) {
+            @Override
+            public boolean update(T entity) {
+                try {
+                    return super.update(entity);
+                } finally {
+                    evictAll();
+                }
+            }
+
+            @Override
+            public boolean remove() {
+                try {
+                    return super.remove();
+                } finally {
+                    evictAll();
+                }
+            }
+        };
+    }
+}
@@ -29,10 +29,19 @@ import com.gientech.agentops.mcp.mapper.CustomerCreditMapper;
 import com.gientech.agentops.mcp.service.CustomerCreditService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 客户授信表Service实现类
  */
 @Service
 public class CustomerCreditServiceImpl extends ServiceImpl<CustomerCreditMapper, CustomerCredit> implements CustomerCreditService {
-    
+
+    @Override
+    public List<CustomerCredit> listByCustomer(Long customerId) {
+        return lambdaQuery()
+                .eq(CustomerCredit::getCustomerId, customerId)
+                .orderByAsc(CustomerCredit::getProductId)
+                .list();
+    }
 }
@@ -23,16 +23,205 @@
  */
 package com.gientech.agentops.mcp.service.impl;
 
-import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.gientech.agentops.mcp.entity.Customer;
 import com.gientech.agentops.mcp.mapper.CustomerMapper;
 import com.gientech.agentops.mcp.service.CustomerService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * 客户信息表Service实现类
+ * 按 uk_id_type_number 自然键缓存客户，命中时不访问数据库；
+ * 不存在的客户使用较短的过期时间做负缓存，避免重复查询同一个不存在的客户。命中统计以 cache=customer.byIdentity 发布到Micrometer。
+ * 单条写入只剔除涉及的证件；批量写入和按条件写入无法确定涉及的证件，清空整个缓存，见 {@link CacheInvalidatingServiceImpl}
  */
 @Service
-public class CustomerServiceImpl extends ServiceImpl<CustomerMapper, Customer> implements CustomerService {
-    
+public class CustomerServiceImpl extends CacheInvalidatingServiceImpl<CustomerMapper, Customer> implements CustomerService {
+
+    private final Cache<IdentityKey, Optional<Customer>> customersByIdentity;
+
+    // 每次剔除缓存时递增；未命中时的查询期间若有写入，查询结果可能已过期，不放入缓存
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    public CustomerServiceImpl(@Value("${mcp4ail.cache.customer.maximum-size:100000}") long maximumSize,
+                               @Value("${mcp4ail.cache.customer.ttl:10m}") Duration ttl,
+                               @Value("${mcp4ail.cache.customer.negative-ttl:1m}") Duration negativeTtl,
+                               MeterRegistry meterRegistry) {
+        this.customersByIdentity = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<IdentityKey, Optional<Customer>>() {
+                    @Override
+                    public long expireAfterCreate(IdentityKey key, Optional<Customer> value, long currentTime) {
+                        return (value.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(IdentityKey key, Optional<Customer> value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(IdentityKey key, Optional<Customer> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, customersByIdentity, "customer.byIdentity");
+    }
+
+    @Override
+    public Customer getByIdentity(String idType, String idNumber) {
+        if (idType == null || idNumber == null) {
+            return null;
+        }
+        IdentityKey key = new IdentityKey(idType, idNumber);
+        Optional<Customer> cached = customersByIdentity.getIfPresent(key);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+
+        // 在Caffeine的compute之外查询：compute持有哈希桶锁，虚拟线程模式下在锁内执行JDBC会把载体线程固定在整个查询期间；
+        // 代价是同一证件并发未命中时可能重复查询
+        long generation = writeGeneration.get();
+        Optional<Customer> loaded = Optional.ofNullable(lambdaQuery()
+                .eq(Customer::getIdType, key.idType())
+                .eq(Customer::getIdNumber, key.idNumber())
+                .one());
+        if (writeGeneration.get() == generation) {
+            customersByIdentity.put(key, loaded);
+            // 放入缓存前后发生了写入，撤销刚放入的结果
+            if (writeGeneration.get() != generation) {
+                customersByIdentity.invalidate(key);
+            }
+        }
+        return loaded.orElse(null);
+    }
+
+    @Override
+    public Customer getByIdentity(String name, String idType, String idNumber) {
+        Customer customer = getByIdentity(idType, idNumber);
+        if (customer == null || name == null || !name.equals(customer.getName())) {
+            return null;
+        }
+        return customer;
+    }
+
+    @Override
+    public List<Customer> listByIdentities(List<String> idTypes, List<String> idNumbers) {
+        List<IdentityKey> keys = new ArrayList<>(idTypes.size());
+        Set<IdentityKey> distinctKeys = new LinkedHashSet<>();
+        for (int i = 0; i < idTypes.size(); i++) {
+            IdentityKey key = idTypes.get(i) != null && idNumbers.get(i) != null
+                    ? new IdentityKey(idTypes.get(i), idNumbers.get(i)) : null;
+            keys.add(key);
+            if (key != null) {
+                distinctKeys.add(key);
+            }
+        }
+
+        Map<IdentityKey, Optional<Customer>> found = new HashMap<>(customersByIdentity.getAllPresent(distinctKeys));
+        distinctKeys.removeAll(found.keySet());
+        if (!distinctKeys.isEmpty()) {
+            // 与单个查询相同，未命中的部分在缓存之外查询，期间有写入时不放入缓存
+            long generation = writeGeneration.get();
+            Map<IdentityKey, Optional<Customer>> loaded = loadByIdentities(distinctKeys);
+            found.putAll(loaded);
+            if (writeGeneration.get() == generation) {
+                customersByIdentity.putAll(loaded);
+                if (writeGeneration.get() != generation) {
+                    customersByIdentity.invalidateAll(loaded.keySet());
+                }
+            }
+        }
+
+        List<Customer> customers = new ArrayList<>(keys.size());
+        for (IdentityKey key : keys) {
+            customers.add(key != null ? found.get(key).orElse(null) : null);
+        }
+        return customers;
+    }
+
+    // 一次查询多个证件对应的客户，查不到的证件返回空值以便负缓存
+    private Map<IdentityKey, Optional<Customer>> loadByIdentities(Set<? extends IdentityKey> keys) {
+        Map<IdentityKey, Optional<Customer>> result = new HashMap<>();
+        LambdaQueryWrapper<Customer> wrapper = Wrappers.lambdaQuery();
+        boolean first = true;
+        for (IdentityKey key : keys) {
+            result.put(key, Optional.empty());
+            if (!first) {
+                wrapper.or();
+            }
+            wrapper.nested(w -> w.eq(Customer::getIdType, key.idType()).eq(Customer::getIdNumber, key.idNumber()));
+            first = false;
+        }
+        for (Customer customer : list(wrapper)) {
+            result.put(new IdentityKey(customer.getIdType(), customer.getIdNumber()), Optional.of(customer));
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidateIdentityCache() {
+        writeGeneration.incrementAndGet();
+        customersByIdentity.invalidateAll();
+    }
+
+    @Override
+    public CacheStats getIdentityCacheStats() {
+        return customersByIdentity.stats();
+    }
+
+    @Override
+    protected void evictAll() {
+        invalidateIdentityCache();
+    }
+
+    @Override
+    protected void evictEntity(Customer customer) {
+        // 剔除实体中的证件（如新增前的负缓存）；更新时实体中的证件可能是新值，再按ID剔除库中当前证件
+        evict(customer);
+        evictById(customer.getId());
+    }
+
+    @Override
+    protected void evictById(Serializable id) {
+        if (id != null) {
+            Customer existing = getBaseMapper().selectById(id);
+            if (existing != null) {
+                evict(existing);
+            }
+        }
+    }
+
+    private void evict(Customer customer) {
+        writeGeneration.incrementAndGet();
+        if (customer.getIdType() != null && customer.getIdNumber() != null) {
+            customersByIdentity.invalidate(new IdentityKey(customer.getIdType(), customer.getIdNumber()));
+        }
+    }
+
+    private record IdentityKey(String idType, String idNumber) {
+    }
 }
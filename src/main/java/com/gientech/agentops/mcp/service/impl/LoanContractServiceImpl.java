@@ -24,15 +24,33 @@
 package com.gientech.agentops.mcp.service.impl;
 
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.gientech.agentops.mcp.dto.ProductBalance;
 import com.gientech.agentops.mcp.entity.LoanContract;
 import com.gientech.agentops.mcp.mapper.LoanContractMapper;
 import com.gientech.agentops.mcp.service.LoanContractService;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 贷款合同表Service实现类
  */
 @Service
 public class LoanContractServiceImpl extends ServiceImpl<LoanContractMapper, LoanContract> implements LoanContractService {
-    
+
+    @Override
+    public List<ProductBalance> listActiveBalancesByProduct(Long customerId) {
+        return baseMapper.selectActiveBalancesByProduct(customerId);
+    }
+
+    @Override
+    public List<ProductBalance> listActiveBalancesByCustomerAndProduct(Collection<Long> customerIds,
+                                                                       Collection<Long> productIds) {
+        if (customerIds.isEmpty() || productIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return baseMapper.selectActiveBalancesByCustomerAndProduct(customerIds, productIds);
+    }
 }
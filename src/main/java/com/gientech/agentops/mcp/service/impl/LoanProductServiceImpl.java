@@ -23,16 +23,98 @@
  */
 package com.gientech.agentops.mcp.service.impl;
 
-import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.gientech.agentops.mcp.entity.LoanProduct;
 import com.gientech.agentops.mcp.mapper.LoanProductMapper;
 import com.gientech.agentops.mcp.service.LoanProductService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * 贷款产品表Service实现类
+ * 贷款产品属于很少变化的参考数据，按名称和ID两个索引做读穿透缓存；
+ * 不存在的产品同样会被缓存，直到过期或被清空。命中统计以 cache=loanProduct.byName / loanProduct.byId 发布到Micrometer。产品很少写入，任何写入都清空两个索引，见 {@link CacheInvalidatingServiceImpl}
  */
 @Service
-public class LoanProductServiceImpl extends ServiceImpl<LoanProductMapper, LoanProduct> implements LoanProductService {
-    
+public class LoanProductServiceImpl extends CacheInvalidatingServiceImpl<LoanProductMapper, LoanProduct>
+        implements LoanProductService {
+
+    private final Cache<String, Optional<LoanProduct>> productsByName;
+
+    private final Cache<Long, Optional<LoanProduct>> productsById;
+
+    public LoanProductServiceImpl(@Value("${mcp4ail.cache.loan-product.maximum-size:1000}") long maximumSize,
+                                  @Value("${mcp4ail.cache.loan-product.ttl:10m}") Duration ttl,
+                                  MeterRegistry meterRegistry) {
+        this.productsByName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.productsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, productsByName, "loanProduct.byName");
+        CaffeineCacheMetrics.monitor(meterRegistry, productsById, "loanProduct.byId");
+    }
+
+    @Override
+    public LoanProduct getByProductName(String productName) {
+        if (productName == null) {
+            return null;
+        }
+        return productsByName.get(productName, key -> {
+            LoanProduct product = lambdaQuery()
+                    .eq(LoanProduct::getProductName, key)
+                    .one();
+            if (product != null) {
+                productsById.put(product.getId(), Optional.of(product));
+            }
+            return Optional.ofNullable(product);
+        }).orElse(null);
+    }
+
+    @Override
+    public Optional<LoanProduct> getCachedByProductName(String productName) {
+        return productName != null ? productsByName.getIfPresent(productName) : null;
+    }
+
+    @Override
+    public LoanProduct getCachedById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return productsById.get(id, key -> {
+            LoanProduct product = getBaseMapper().selectById(key);
+            if (product != null) {
+                productsByName.put(product.getProductName(), Optional.of(product));
+            }
+            return Optional.ofNullable(product);
+        }).orElse(null);
+    }
+
+    @Override
+    public void invalidateCache() {
+        productsByName.invalidateAll();
+        productsById.invalidateAll();
+    }
+
+    @Override
+    public CacheStats getCacheStats() {
+        return productsByName.stats().plus(productsById.stats());
+    }
+
+    @Override
+    protected void evictAll() {
+        invalidateCache();
+    }
 }
@@ -24,15 +24,22 @@
 package com.gientech.agentops.mcp.service.impl;
 
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.gientech.agentops.mcp.dto.ProductOverdueSummary;
 import com.gientech.agentops.mcp.entity.OverdueRecord;
 import com.gientech.agentops.mcp.mapper.OverdueRecordMapper;
 import com.gientech.agentops.mcp.service.OverdueRecordService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 逾期记录表Service实现类
  */
 @Service
 public class OverdueRecordServiceImpl extends ServiceImpl<OverdueRecordMapper, OverdueRecord> implements OverdueRecordService {
-    
+
+    @Override
+    public List<ProductOverdueSummary> listSummaryByProduct(Long customerId) {
+        return baseMapper.selectSummaryByProduct(customerId);
+    }
 }
@@ -24,15 +24,28 @@
 package com.gientech.agentops.mcp.service.impl;
 
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.gientech.agentops.mcp.dto.RepaymentScheduleRow;
 import com.gientech.agentops.mcp.entity.RepaymentPlan;
 import com.gientech.agentops.mcp.mapper.RepaymentPlanMapper;
 import com.gientech.agentops.mcp.service.RepaymentPlanService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 还款计划表Service实现类
  */
 @Service
 public class RepaymentPlanServiceImpl extends ServiceImpl<RepaymentPlanMapper, RepaymentPlan> implements RepaymentPlanService {
-    
+
+    @Override
+    public List<RepaymentScheduleRow> listSchedulePage(Long customerId, Long productId,
+                                                       Long afterContractId, String afterDate, int limit) {
+        return baseMapper.selectSchedulePage(customerId, productId, afterContractId, afterDate, limit);
+    }
+
+    @Override
+    public List<RepaymentScheduleRow> listUpcomingByCustomer(Long customerId, String dateFrom, String dateTo) {
+        return baseMapper.selectUpcomingByCustomer(customerId, dateFrom, dateTo);
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * SQL及工具调用日志
+ * 以 key=value 格式写入 mcp4ail.sql 和 mcp4ail.tool 两个日志器，由 logback-spring.xml 异步写入日志文件，不输出到控制台。
+ * 两类日志分别配置记录模式：
+ * OFF     不记录
+ * SLOW    只记录耗时达到阈值的调用
+ * SAMPLED 按比例抽样记录，耗时达到阈值的调用总是记录
+ * ALL     全部记录
+ */
+@Component
+public class InvocationLogger {
+
+    private static final Logger sqlLogger = LoggerFactory.getLogger("mcp4ail.sql");
+
+    private static final Logger toolLogger = LoggerFactory.getLogger("mcp4ail.tool");
+
+    private final Policy sqlPolicy;
+
+    private final Policy toolPolicy;
+
+    public InvocationLogger(@Value("${mcp4ail.sql-log.mode:SLOW}") Mode sqlMode,
+                            @Value("${mcp4ail.sql-log.sample-rate:0.01}") double sqlSampleRate,
+                            @Value("${mcp4ail.sql-log.slow-threshold:100ms}") Duration sqlSlowThreshold,
+                            @Value("${mcp4ail.tool-log.mode:SLOW}") Mode toolMode,
+                            @Value("${mcp4ail.tool-log.sample-rate:0.01}") double toolSampleRate,
+                            @Value("${mcp4ail.tool-log.slow-threshold:500ms}") Duration toolSlowThreshold) {
+        this.sqlPolicy = new Policy(sqlMode, sqlSampleRate, sqlSlowThreshold.toNanos());
+        this.toolPolicy = new Policy(toolMode, toolSampleRate, toolSlowThreshold.toNanos());
+    }
+
+    /**
+     * 是否需要为SQL计时，OFF模式下不计时
+     */
+    public boolean isSqlLogEnabled() {
+        return sqlPolicy.mode() != Mode.OFF && sqlLogger.isInfoEnabled();
+    }
+
+    /**
+     * 记录一条SQL
+     * @param tool 所属工具，不在工具调用中时为null
+     * @param statementId MyBatis语句ID
+     * @param sql SQL文本，只在确定记录时才生成
+     * @param rows 查询返回的对象数或更新影响的行数
+     * @param nanos 执行耗时
+     * @param failed 是否执行失败
+     */
+    public void logSql(String tool, String statementId, Supplier<String> sql, long rows, long nanos, boolean failed) {
+        if (!sqlPolicy.shouldLog(nanos, failed) || !sqlLogger.isInfoEnabled()) {
+            return;
+        }
+        sqlLogger.info("tool={} statement={} rows={} elapsedMs={} failed={} sql=\"{}\"",
+                tool != null ? tool : "-", statementId, rows, millis(nanos), failed, compact(sql.get()));
+    }
+
+    /**
+     * 记录一次工具调用
+     * @param tool 工具名称
+     * @param outcome success/failure/exception
+     * @param nanos 调用耗时
+     * @param statements 调用期间执行的SQL条数
+     */
+    public void logToolCall(String tool, String outcome, long nanos, int statements) {
+        if (!toolPolicy.shouldLog(nanos, !"success".equals(outcome)) || !toolLogger.isInfoEnabled()) {
+            return;
+        }
+        toolLogger.info("tool={} outcome={} elapsedMs={} sqlStatements={}", tool, outcome, millis(nanos), statements);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    // 把多行SQL压缩成一行
+    private static String compact(String sql) {
+        return sql.replaceAll("\\s+", " ").trim().replace("\"", "'");
+    }
+
+    /**
+     * 日志记录模式
+     */
+    public enum Mode {
+        OFF, SLOW, SAMPLED, ALL
+    }
+
+    private record Policy(Mode mode, double sampleRate, long slowThresholdNanos) {
+
+        // 失败的调用按慢调用对待，除OFF外总是记录
+        boolean shouldLog(long nanos, boolean failed) {
+            return switch (mode) {
+                case OFF -> false;
+                case ALL -> true;
+                case SLOW -> failed || nanos >= slowThresholdNanos;
+                case SAMPLED -> failed || nanos >= slowThresholdNanos
+                        || ThreadLocalRandom.current().nextDouble() < sampleRate;
+            };
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gientech.agentops.mcp.tool.ToolRegistry.RegisteredTool;
+import com.gientech.agentops.mcp.tool.ToolRegistry.ToolParameter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * MCP工具目录
+ * 按Provider分组的工具列表及其预先序列化的JSON（含gzip压缩版本，两种表示各有一个强ETag），由状态页和 /tools.json 共用；
+ * 快照在注册表重新扫描后的首次访问时重建，其余访问直接返回缓存
+ */
+@Component
+public class ToolCatalog {
+
+    private final ToolRegistry toolRegistry;
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public ToolCatalog(ToolRegistry toolRegistry, ObjectMapper objectMapper) {
+        this.toolRegistry = toolRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 获取当前工具目录快照
+     */
+    public Snapshot getSnapshot() {
+        List<RegisteredTool> tools = toolRegistry.getTools();
+        Snapshot current = snapshot;
+        if (current == null || current.tools != tools) {
+            // 并发重建的结果相同，不需要加锁
+            current = build(tools);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot build(List<RegisteredTool> tools) {
+        // 保持工具注册顺序，Provider按首次出现的顺序排列
+        Map<String, List<RegisteredTool>> grouped = new LinkedHashMap<>();
+        for (RegisteredTool tool : tools) {
+            grouped.computeIfAbsent(tool.getSimpleClassName(), k -> new ArrayList<>()).add(tool);
+        }
+
+        List<ProviderGroup> providers = new ArrayList<>(grouped.size());
+        List<CatalogProvider> catalogProviders = new ArrayList<>(grouped.size());
+        grouped.forEach((provider, providerTools) -> {
+            providers.add(new ProviderGroup(provider, List.copyOf(providerTools)));
+            List<CatalogTool> catalogTools = new ArrayList<>(providerTools.size());
+            for (RegisteredTool tool : providerTools) {
+                List<CatalogParameter> parameters = new ArrayList<>(tool.getParamDetails().size());
+                for (ToolParameter param : tool.getParamDetails()) {
+                    parameters.add(new CatalogParameter(param.getName(), param.getType(), param.getDescription()));
+                }
+                catalogTools.add(new CatalogTool(tool.getName(), tool.getDescription(), parameters));
+            }
+            catalogProviders.add(new CatalogProvider(provider, catalogTools));
+        });
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(new Catalog(tools.size(), catalogProviders));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("工具目录序列化失败", e);
+        }
+        String digest = digest(json);
+        return new Snapshot(tools, List.copyOf(providers), json, gzip(json),
+                "\"" + digest + "\"", "\"" + digest + "-gzip\"");
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 强ETag取未压缩内容的摘要，内容不变时重启后也保持不变；gzip表示在其后加 -gzip 后缀，
+    // 不直接对压缩结果取摘要，避免压缩实现变化导致ETag变化
+    private static String digest(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 工具目录快照
+     */
+    public static final class Snapshot {
+
+        private final List<RegisteredTool> tools;
+
+        private final List<ProviderGroup> providers;
+
+        private final byte[] json;
+
+        private final byte[] gzippedJson;
+
+        private final String etag;
+
+        private final String gzippedEtag;
+
+        Snapshot(List<RegisteredTool> tools, List<ProviderGroup> providers, byte[] json, byte[] gzippedJson,
+                 String etag, String gzippedEtag) {
+            this.tools = tools;
+            this.providers = providers;
+            this.json = json;
+            this.gzippedJson = gzippedJson;
+            this.etag = etag;
+            this.gzippedEtag = gzippedEtag;
+        }
+
+        public int getToolCount() {
+            return tools.size();
+        }
+
+        /**
+         * 按Provider分组的工具
+         */
+        public List<ProviderGroup> getProviders() {
+            return providers;
+        }
+
+        /**
+         * 序列化后的工具目录，调用方不得修改
+         */
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * gzip压缩后的工具目录，调用方不得修改
+         */
+        public byte[] getGzippedJson() {
+            return gzippedJson;
+        }
+
+        /**
+         * 未压缩表示的强ETag，带引号
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * gzip表示的强ETag，带引号
+         */
+        public String getGzippedEtag() {
+            return gzippedEtag;
+        }
+    }
+
+    /**
+     * 同一Provider下的工具
+     */
+    public static final class ProviderGroup {
+
+        private final String name;
+
+        private final List<RegisteredTool> tools;
+
+        ProviderGroup(String name, List<RegisteredTool> tools) {
+            this.name = name;
+            this.tools = tools;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<RegisteredTool> getTools() {
+            return tools;
+        }
+    }
+
+    record Catalog(int toolCount, List<CatalogProvider> providers) {
+    }
+
+    record CatalogProvider(String name, List<CatalogTool> tools) {
+    }
+
+    record CatalogTool(String name, String description, List<CatalogParameter> parameters) {
+    }
+
+    record CatalogParameter(String name, String type, String description) {
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 当前线程正在执行的MCP工具调用，用于把SQL语句归属到工具
+ * 由 {@link ToolMetricsAspect} 在工具调用前后设置，由 {@link ToolSqlInterceptor} 记录每条SQL；
+ * 工具内并行执行的查询通过 {@link #propagate(Supplier)} 归属到同一调用，因此记录方法是同步的
+ */
+public final class ToolInvocation {
+
+    private static final ThreadLocal<ToolInvocation> CURRENT = new ThreadLocal<>();
+
+    // 超出预算告警时最多列出的语句ID数
+    private static final int MAX_RECORDED_STATEMENTS = 50;
+
+    private final String toolName;
+
+    private final ToolInvocation previous;
+
+    private final List<String> statementIds = new ArrayList<>();
+
+    private int statements;
+
+    private long rows;
+
+    private long sqlNanos;
+
+    private ToolInvocation(String toolName, ToolInvocation previous) {
+        this.toolName = toolName;
+        this.previous = previous;
+    }
+
+    /**
+     * 当前线程的工具调用，不在工具调用中时为null
+     */
+    public static ToolInvocation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 开始一次工具调用
+     * @param toolName 工具名称
+     * @return 本次调用，结束时须调用 {@link #end()}
+     */
+    static ToolInvocation begin(String toolName) {
+        ToolInvocation invocation = new ToolInvocation(toolName, CURRENT.get());
+        CURRENT.set(invocation);
+        return invocation;
+    }
+
+    /**
+     * 结束本次工具调用，恢复外层调用
+     */
+    void end() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 把当前线程的工具调用传递给在其他线程执行的任务，使任务执行的SQL同样计入本次调用
+     * @param task 任务
+     * @return 在执行线程上临时设置当前工具调用的任务；不在工具调用中时返回原任务
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        ToolInvocation invocation = CURRENT.get();
+        if (invocation == null) {
+            return task;
+        }
+        return () -> {
+            ToolInvocation outer = CURRENT.get();
+            CURRENT.set(invocation);
+            try {
+                return task.get();
+            } finally {
+                if (outer != null) {
+                    CURRENT.set(outer);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * 记录一条SQL语句
+     * @param statementId MyBatis语句ID
+     * @param rowCount 查询返回的对象数或更新影响的行数
+     * @param nanos 执行耗时
+     */
+    public synchronized void recordStatement(String statementId, long rowCount, long nanos) {
+        statements++;
+        rows += rowCount;
+        sqlNanos += nanos;
+        if (statementIds.size() < MAX_RECORDED_STATEMENTS) {
+            statementIds.add(statementId);
+        }
+    }
+
+    public String getToolName() {
+        return toolName;
+    }
+
+    public synchronized int getStatements() {
+        return statements;
+    }
+
+    public synchronized long getRows() {
+        return rows;
+    }
+
+    public synchronized long getSqlNanos() {
+        return sqlNanos;
+    }
+
+    public synchronized List<String> getStatementIds() {
+        return new ArrayList<>(statementIds);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.gientech.agentops.mcp.tool.ToolRegistry.ToolParameter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 预编译的工具调用器
+ * 在注册工具时把方法转换为 (Object, Object[])Object 形式的 MethodHandle，并为每个参数确定一次字符串转换器，
+ * 调用时只做参数查找、转换和一次 invokeExact，不再反射查找方法或逐个判断参数类型
+ */
+public final class ToolInvoker {
+
+    private final String toolName;
+
+    private final MethodHandle handle;
+
+    private final Supplier<Object> bean;
+
+    private final List<ToolParameter> parameters;
+
+    private final Function<String, Object>[] converters;
+
+    // 未提供的参数及由MCP框架注入的参数的默认值，每次调用复制一份
+    private final Object[] defaults;
+
+    // Bean在首次调用时才获取，注册工具时不实例化懒加载的Bean
+    private volatile Object target;
+
+    @SuppressWarnings("unchecked")
+    ToolInvoker(String toolName, Method method, Supplier<Object> bean, List<ToolParameter> parameters,
+                ObjectMapper objectMapper) {
+        this.toolName = toolName;
+        this.bean = bean;
+        this.parameters = parameters;
+
+        Class<?>[] paramTypes = method.getParameterTypes();
+        try {
+            method.setAccessible(true);
+            this.handle = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.genericMethodType(paramTypes.length + 1))
+                    .asSpreader(Object[].class, paramTypes.length);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("无法访问工具方法 " + method, e);
+        }
+
+        this.defaults = new Object[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            defaults[i] = defaultValue(paramTypes[i]);
+        }
+
+        this.converters = new Function[paramTypes.length];
+        for (ToolParameter parameter : parameters) {
+            int index = parameter.getIndex();
+            converters[index] = converter(paramTypes[index],
+                    objectMapper.readerFor(objectMapper.constructType(method.getGenericParameterTypes()[index])));
+        }
+    }
+
+    /**
+     * 调用工具
+     * @param values 参数名到参数值的映射，参数名为 paramN 或 工具名.paramN；空值视为未提供
+     * @return 工具方法的返回值
+     * @throws IllegalArgumentException 参数值无法转换为参数类型
+     */
+    public Object invoke(Map<String, String> values) {
+        Object[] args = defaults.clone();
+        for (ToolParameter parameter : parameters) {
+            String value = values.get(parameter.getName());
+            if (value == null) {
+                value = values.get(toolName + "." + parameter.getName());
+            }
+            if (value != null && !value.isEmpty()) {
+                try {
+                    args[parameter.getIndex()] = converters[parameter.getIndex()].apply(value);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("无法将值" + value + "转换为" + parameter.getType()
+                            + "类型的参数" + parameter.getName(), e);
+                }
+            }
+        }
+
+        Object instance = target;
+        if (instance == null) {
+            instance = bean.get();
+            target = instance;
+        }
+        try {
+            return (Object) handle.invokeExact(instance, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    // 字符串和基本类型直接解析，枚举按名称转换，其余类型（如列表和对象）按JSON解析
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> converter(Class<?> type, ObjectReader jsonReader) {
+        if (type == String.class) {
+            return value -> value;
+        } else if (type == Integer.class || type == int.class) {
+            return Integer::valueOf;
+        } else if (type == Long.class || type == long.class) {
+            return Long::valueOf;
+        } else if (type == Double.class || type == double.class) {
+            return Double::valueOf;
+        } else if (type == Boolean.class || type == boolean.class) {
+            return Boolean::valueOf;
+        } else if (type == Float.class || type == float.class) {
+            return Float::valueOf;
+        } else if (type == Short.class || type == short.class) {
+            return Short::valueOf;
+        } else if (type == Byte.class || type == byte.class) {
+            return Byte::valueOf;
+        } else if (type.isEnum()) {
+            return value -> Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        return value -> {
+            try {
+                return jsonReader.readValue(value);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type.isPrimitive()) {
+            if (type == int.class) return 0;
+            if (type == long.class) return 0L;
+            if (type == double.class) return 0.0;
+            if (type == boolean.class) return false;
+            if (type == float.class) return 0.0f;
+            if (type == short.class) return (short) 0;
+            if (type == byte.class) return (byte) 0;
+            if (type == char.class) return '\0';
+        }
+        return null;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import com.gientech.agentops.mcp.dto.ToolResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 记录每个 @McpTool 方法的调用指标，通过 /actuator/prometheus 暴露：
+ * mcp.tool.calls          调用耗时，按 outcome 区分 success/failure/exception
+ * mcp.tool.errors         失败次数，type 为 business（返回 success=false）或 exception
+ * mcp.tool.in.flight      正在执行的调用数
+ * mcp.tool.response.size  响应序列化后的字节数，按 mcp4ail.metrics.response-size-sample-rate 抽样
+ * mcp.tool.sql.statements 每次调用执行的SQL条数，由 {@link ToolSqlInterceptor} 统计
+ * mcp.tool.sql.rows       每次调用SQL返回的对象数（更新语句为影响行数）
+ * mcp.tool.sql.time       每次调用的SQL总耗时
+ * 单次调用的SQL条数超过 mcp4ail.sql.query-budget 时记录告警日志，便于及时发现N+1查询
+ *
+ * 位于结果缓存切面之外，缓存命中的调用也计入耗时；返回 Mono 的响应式工具在 Mono 完成时记录
+ */
+@Aspect
+@Component
+@Order(0)
+public class ToolMetricsAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolMetricsAspect.class);
+
+    private final MeterRegistry registry;
+
+    private final ToolResponseWriter responseWriter;
+
+    private final InvocationLogger invocationLogger;
+
+    private final double responseSizeSampleRate;
+
+    private final int queryBudget;
+
+    // 每个工具方法的指标只在首次调用时注册
+    private final Map<Method, ToolMeters> meters = new ConcurrentHashMap<>();
+
+    public ToolMetricsAspect(MeterRegistry registry,
+                             ToolResponseWriter responseWriter,
+                             InvocationLogger invocationLogger,
+                             @Value("${mcp4ail.metrics.response-size-sample-rate:0.01}") double responseSizeSampleRate,
+                             @Value("${mcp4ail.sql.query-budget:10}") int queryBudget) {
+        this.registry = registry;
+        this.responseWriter = responseWriter;
+        this.invocationLogger = invocationLogger;
+        this.responseSizeSampleRate = responseSizeSampleRate;
+        this.queryBudget = queryBudget;
+    }
+
+    @Around("@annotation(org.springaicommunity.mcp.annotation.McpTool)")
+    public Object recordToolMetrics(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        ToolMeters toolMeters = meters.computeIfAbsent(method, this::registerMeters);
+
+        ToolInvocation invocation = ToolInvocation.begin(toolMeters.toolName);
+        toolMeters.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            toolMeters.inFlight.decrementAndGet();
+            recordException(toolMeters, System.nanoTime() - start, invocation.getStatements());
+            throw e;
+        } finally {
+            invocation.end();
+            recordSql(toolMeters, invocation);
+        }
+
+        if (result instanceof Mono<?> mono) {
+            // 响应式工具（WebFlux构建）返回时尚未执行，耗时和结果在Mono完成时记录
+            int statements = invocation.getStatements();
+            return mono
+                    .doOnSuccess(value -> recordCompletion(toolMeters, value, System.nanoTime() - start, statements))
+                    .doOnError(e -> recordException(toolMeters, System.nanoTime() - start, statements))
+                    .doFinally(signal -> toolMeters.inFlight.decrementAndGet());
+        }
+
+        toolMeters.inFlight.decrementAndGet();
+        recordCompletion(toolMeters, result, System.nanoTime() - start, invocation.getStatements());
+        return result;
+    }
+
+    private void recordException(ToolMeters toolMeters, long elapsed, int statements) {
+        toolMeters.exceptionTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        toolMeters.exceptionErrors.increment();
+        invocationLogger.logToolCall(toolMeters.toolName, "exception", elapsed, statements);
+    }
+
+    private void recordCompletion(ToolMeters toolMeters, Object result, long elapsed, int statements) {
+        boolean failure = isFailure(result);
+        if (failure) {
+            toolMeters.failureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            toolMeters.businessErrors.increment();
+        } else {
+            toolMeters.successTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+        invocationLogger.logToolCall(toolMeters.toolName, failure ? "failure" : "success", elapsed, statements);
+
+        if (result != null && responseSizeSampleRate > 0
+                && ThreadLocalRandom.current().nextDouble() < responseSizeSampleRate) {
+            try {
+                toolMeters.responseSize.record(responseWriter.writeValueAsBytes(result).length);
+            } catch (Exception e) {
+                logger.debug("无法计算工具[{}]的响应大小", toolMeters.toolName, e);
+            }
+        }
+    }
+
+    private void recordSql(ToolMeters toolMeters, ToolInvocation invocation) {
+        int statements = invocation.getStatements();
+        toolMeters.sqlStatements.record(statements);
+        if (statements == 0) {
+            // 未访问数据库（如缓存命中）
+            return;
+        }
+        toolMeters.sqlRows.record(invocation.getRows());
+        toolMeters.sqlTime.record(invocation.getSqlNanos(), TimeUnit.NANOSECONDS);
+        if (queryBudget > 0 && statements > queryBudget) {
+            toolMeters.sqlBudgetExceeded.increment();
+            logger.warn("工具[{}]单次调用执行了{}条SQL，超出预算{}条：{}",
+                    toolMeters.toolName, statements, queryBudget, invocation.getStatementIds());
+        }
+    }
+
+    private static boolean isFailure(Object result) {
+        if (result instanceof ToolResponse response) {
+            return !response.success();
+        }
+        return result instanceof Map<?, ?> map && Boolean.FALSE.equals(map.get("success"));
+    }
+
+    private ToolMeters registerMeters(Method method) {
+        McpTool mcpTool = method.getAnnotation(McpTool.class);
+        String toolName = mcpTool != null && !mcpTool.name().isEmpty() ? mcpTool.name() : method.getName();
+        return new ToolMeters(toolName, registry);
+    }
+
+    /**
+     * 单个工具的全部指标
+     */
+    private static class ToolMeters {
+
+        final String toolName;
+
+        final Timer successTimer;
+
+        final Timer failureTimer;
+
+        final Timer exceptionTimer;
+
+        final Counter businessErrors;
+
+        final Counter exceptionErrors;
+
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        final DistributionSummary responseSize;
+
+        final DistributionSummary sqlStatements;
+
+        final DistributionSummary sqlRows;
+
+        final Timer sqlTime;
+
+        final Counter sqlBudgetExceeded;
+
+        ToolMeters(String toolName, MeterRegistry registry) {
+            this.toolName = toolName;
+            this.successTimer = timer(registry, toolName, "success");
+            this.failureTimer = timer(registry, toolName, "failure");
+            this.exceptionTimer = timer(registry, toolName, "exception");
+            this.businessErrors = Counter.builder("mcp.tool.errors")
+                    .description("MCP工具调用失败次数")
+                    .tag("tool", toolName)
+                    .tag("type", "business")
+                    .register(registry);
+            this.exceptionErrors = Counter.builder("mcp.tool.errors")
+                    .description("MCP工具调用失败次数")
+                    .tag("tool", toolName)
+                    .tag("type", "exception")
+                    .register(registry);
+            Gauge.builder("mcp.tool.in.flight", inFlight, AtomicInteger::get)
+                    .description("正在执行的MCP工具调用数")
+                    .tag("tool", toolName)
+                    .register(registry);
+            this.responseSize = DistributionSummary.builder("mcp.tool.response.size")
+                    .description("MCP工具响应序列化后的字节数（抽样）")
+                    .baseUnit("bytes")
+                    .tag("tool", toolName)
+                    .register(registry);
+            this.sqlStatements = DistributionSummary.builder("mcp.tool.sql.statements")
+                    .description("MCP工具单次调用执行的SQL条数")
+                    .tag("tool", toolName)
+                    .register(registry);
+            this.sqlRows = DistributionSummary.builder("mcp.tool.sql.rows")
+                    .description("MCP工具单次调用SQL返回的对象数")
+                    .tag("tool", toolName)
+                    .register(registry);
+            this.sqlTime = Timer.builder("mcp.tool.sql.time")
+                    .description("MCP工具单次调用的SQL总耗时")
+                    .tag("tool", toolName)
+                    .register(registry);
+            this.sqlBudgetExceeded = Counter.builder("mcp.tool.sql.budget.exceeded")
+                    .description("MCP工具单次调用的SQL条数超出预算的次数")
+                    .tag("tool", toolName)
+                    .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String toolName, String outcome) {
+            return Timer.builder("mcp.tool.calls")
+                    .description("MCP工具调用耗时")
+                    .tag("tool", toolName)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
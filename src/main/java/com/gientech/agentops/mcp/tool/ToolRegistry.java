@@ -0,0 +1,267 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.mcp.annotation.McpProgressToken;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * MCP工具注册表
+ * 在所有单例初始化后扫描一次带有 @McpTool 注解的方法，按工具名称建立索引，供状态页和工具测试接口共用；
+ * 扫描只读取Bean定义的类型，不会实例化懒加载的Bean。之后只在容器再次刷新时重新扫描。
+ * 每个工具在注册时生成一个 {@link ToolInvoker}，工具测试接口不再逐次反射调用
+ */
+@Component
+public class ToolRegistry implements SmartInitializingSingleton, ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolRegistry.class);
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final ApplicationContext applicationContext;
+
+    private final ObjectMapper objectMapper;
+
+    // 扫描结果整体替换，读取时不需要加锁
+    private volatile Map<String, RegisteredTool> tools = Collections.emptyMap();
+
+    private volatile List<RegisteredTool> toolList = List.of();
+
+    // 首次刷新时已在 afterSingletonsInstantiated 中扫描，跳过紧随其后的刷新事件
+    private boolean skipNextRefresh;
+
+    public ToolRegistry(ConfigurableListableBeanFactory beanFactory, ApplicationContext applicationContext,
+                        ObjectMapper objectMapper) {
+        this.beanFactory = beanFactory;
+        this.applicationContext = applicationContext;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        scan();
+        skipNextRefresh = true;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        if (skipNextRefresh) {
+            skipNextRefresh = false;
+            return;
+        }
+        scan();
+    }
+
+    /**
+     * 按注册顺序返回所有工具
+     * 返回的列表不可修改，重新扫描前始终是同一个实例
+     */
+    public List<RegisteredTool> getTools() {
+        return toolList;
+    }
+
+    /**
+     * 按名称查找工具
+     * @param name 工具名称
+     * @return 工具，不存在时返回null
+     */
+    public RegisteredTool getTool(String name) {
+        return tools.get(name);
+    }
+
+    private void scan() {
+        Map<String, RegisteredTool> scanned = new LinkedHashMap<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType;
+            try {
+                // 不初始化FactoryBean，也不实例化懒加载的Bean
+                beanType = beanFactory.getType(beanName, false);
+            } catch (Exception e) {
+                logger.debug("无法确定Bean[{}]的类型", beanName, e);
+                continue;
+            }
+            if (beanType == null) {
+                continue;
+            }
+            // 代理类取原始类
+            Class<?> userClass = ClassUtils.getUserClass(beanType);
+            for (Method method : userClass.getDeclaredMethods()) {
+                McpTool annotation = method.getAnnotation(McpTool.class);
+                if (annotation == null) {
+                    continue;
+                }
+                // 通过Bean（可能是代理）调用以经过工具切面
+                RegisteredTool tool = new RegisteredTool(beanName, userClass, method, annotation,
+                        () -> beanFactory.getBean(beanName), objectMapper);
+                RegisteredTool existing = scanned.putIfAbsent(tool.getName(), tool);
+                if (existing != null) {
+                    logger.warn("工具名称[{}]重复：{} 与 {}", tool.getName(), existing.getClassName(), tool.getClassName());
+                }
+            }
+        }
+        toolList = List.copyOf(scanned.values());
+        tools = Collections.unmodifiableMap(scanned);
+        logger.info("成功扫描到 {} 个MCP工具方法", scanned.size());
+    }
+
+    /**
+     * 已注册的MCP工具
+     */
+    public static final class RegisteredTool {
+
+        private final String name;
+
+        private final String description;
+
+        private final String className;
+
+        private final String beanName;
+
+        private final Method method;
+
+        private final List<ToolParameter> paramDetails;
+
+        private final ToolInvoker invoker;
+
+        RegisteredTool(String beanName, Class<?> userClass, Method method, McpTool annotation,
+                       Supplier<Object> bean, ObjectMapper objectMapper) {
+            this.name = annotation.name().isEmpty() ? method.getName() : annotation.name();
+            this.description = annotation.description();
+            this.className = userClass.getName();
+            this.beanName = beanName;
+            this.method = method;
+
+            List<ToolParameter> params = new ArrayList<>();
+            Parameter[] parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                // 跳过由MCP框架注入的会话上下文和进度令牌参数
+                if (parameters[i].getType() == McpSyncServerExchange.class
+                        || parameters[i].isAnnotationPresent(McpProgressToken.class)) {
+                    continue;
+                }
+                McpToolParam paramAnnotation = parameters[i].getAnnotation(McpToolParam.class);
+                params.add(new ToolParameter(i, "param" + i, parameters[i].getType().getSimpleName(),
+                        paramAnnotation != null ? paramAnnotation.description() : "未提供描述"));
+            }
+            this.paramDetails = List.copyOf(params);
+            this.invoker = new ToolInvoker(name, method, bean, paramDetails, objectMapper);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public String getSimpleClassName() {
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+
+        public String getBeanName() {
+            return beanName;
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public List<ToolParameter> getParamDetails() {
+            return paramDetails;
+        }
+
+        public ToolInvoker getInvoker() {
+            return invoker;
+        }
+    }
+
+    /**
+     * 工具参数，不包括由MCP框架注入的参数
+     */
+    public static final class ToolParameter {
+
+        private final int index;
+
+        private final String name;
+
+        private final String type;
+
+        private final String description;
+
+        ToolParameter(int index, String name, String type, String description) {
+            this.index = index;
+            this.name = name;
+            this.type = type;
+            this.description = description;
+        }
+
+        /**
+         * 在方法参数中的位置
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
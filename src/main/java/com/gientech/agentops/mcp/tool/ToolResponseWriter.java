@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gientech.agentops.mcp.dto.ToolResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 工具响应序列化器
+ * 启动时为每种 {@link ToolResponse} 预先构建 ObjectWriter，根类型的序列化器在构建时即已解析。
+ * 只用于服务端内部需要序列化工具结果的地方：{@link ToolMetricsAspect} 抽样记录响应大小。
+ * 返回给MCP客户端的 CallToolResult 由MCP注解框架
+ * 使用其自身的JSON映射器序列化，不经过这里的 ObjectWriter
+ */
+@Component
+public class ToolResponseWriter {
+
+    private final ObjectMapper objectMapper;
+
+    // 构建后只读，无需并发容器
+    private final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+    public ToolResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (Class<?> type : ToolResponse.class.getPermittedSubclasses()) {
+            writers.put(type, objectMapper.writerFor(type));
+        }
+    }
+
+    /**
+     * 序列化工具结果为JSON字节
+     * @param value 工具结果
+     * @return UTF-8编码的JSON
+     */
+    public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        ObjectWriter writer = value != null ? writers.get(value.getClass()) : null;
+        return writer != null ? writer.writeValueAsBytes(value) : objectMapper.writeValueAsBytes(value);
+    }
+
+    /**
+     * 序列化工具结果为JSON字符串
+     * @param value 工具结果
+     * @return JSON字符串
+     */
+    public String writeValueAsString(Object value) throws JsonProcessingException {
+        ObjectWriter writer = value != null ? writers.get(value.getClass()) : null;
+        return writer != null ? writer.writeValueAsString(value) : objectMapper.writeValueAsString(value);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.gientech.agentops.mcp.dto.ToolResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * MCP工具结果缓存
+ * 以 会话ID + 工具名称 + 规范化后的参数列表 为键（规范化见 {@link ToolResultCacheAspect}），
+ * 按 {@link ToolResultWeigher} 估算的序列化字节数计入总预算，超出预算时按W-TinyLFU淘汰。同一会话内重复调用同一工具同一参数时直接返回上次结果。
+ */
+@Component
+public class ToolResultCache {
+
+    private final Cache<Key, Entry> results;
+
+    private final Duration defaultTtl;
+
+    private final Map<String, ToolStats> toolStats = new ConcurrentHashMap<>();
+
+    public ToolResultCache(@Value("${mcp4ail.tool-cache.ttl:30s}") Duration defaultTtl,
+                           @Value("${mcp4ail.tool-cache.max-bytes:16MB}") DataSize maxBytes) {
+        this.defaultTtl = defaultTtl;
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((Key key, Entry entry) -> entry.bytes())
+                .expireAfter(new Expiry<Key, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 从缓存中获取工具结果，未命中时调用工具并缓存其结果
+     * @param sessionId MCP会话ID
+     * @param toolName 工具名称
+     * @param args 工具参数（不含框架注入的参数）
+     * @param ttl 缓存有效期，为null时使用默认值
+     * @param invoker 实际调用工具
+     * @return 工具结果
+     */
+    public Object get(String sessionId, String toolName, Object[] args, Duration ttl, Supplier<Object> invoker) {
+        ToolStats stats = toolStats.computeIfAbsent(toolName, k -> new ToolStats());
+        Key key = new Key(sessionId, toolName, Arrays.asList(args));
+
+        Entry cached = results.getIfPresent(key);
+        if (cached != null) {
+            stats.hits.increment();
+            return cached.value();
+        }
+
+        stats.misses.increment();
+        Object value = invoker.get();
+        if (isCacheable(value)) {
+            results.put(key, new Entry(value, ToolResultWeigher.estimateBytes(value), ttl != null ? ttl : defaultTtl));
+        }
+        return value;
+    }
+
+    /**
+     * 整体缓存统计
+     */
+    public CacheStats getStats() {
+        return results.stats();
+    }
+
+    /**
+     * 按工具统计的命中/未命中次数及命中率
+     */
+    public Map<String, Map<String, Object>> getToolStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        toolStats.forEach((toolName, stats) -> {
+            long hits = stats.hits.sum();
+            long misses = stats.misses.sum();
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("hits", hits);
+            item.put("misses", misses);
+            item.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            result.put(toolName, item);
+        });
+        return result;
+    }
+
+    /**
+     * 清空所有会话的缓存结果
+     */
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    // 业务失败（success=false）的结果不缓存，避免把偶发错误固定在会话中
+    private boolean isCacheable(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof ToolResponse response) {
+            return response.success();
+        }
+        return !(value instanceof Map<?, ?> map && Boolean.FALSE.equals(map.get("success")));
+    }
+
+    private record Key(String sessionId, String toolName, List<Object> args) {
+    }
+
+    private record Entry(Object value, int bytes, Duration ttl) {
+    }
+
+    private static class ToolStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 为标注了 @ToolResultCacheable 的 @McpTool 方法提供会话级结果缓存
+ * 缓存及命中统计按工具名称区分：取 @McpTool 的 name，未指定时取方法名，与 {@link ToolRegistry} 一致。
+ * 字符串参数先规范化（去除首尾空白，空白字符串视为null）再作为缓存键，并以规范化后的参数调用工具，
+ * 因此 " 张三" 与 "张三"、null 与 "" 共用一个缓存条目，且与工具实际查询的条件一致
+ */
+@Aspect
+@Component
+public class ToolResultCacheAspect {
+
+    @Autowired
+    private ToolResultCache toolResultCache;
+
+    // 每个工具方法的工具名称只解析一次
+    private final Map<Method, String> toolNames = new ConcurrentHashMap<>();
+
+    @Around("@annotation(org.springaicommunity.mcp.annotation.McpTool)")
+    public Object cacheToolResult(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+
+        ToolResultCacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(method, ToolResultCacheable.class);
+        if (cacheable == null) {
+            cacheable = AnnotatedElementUtils.findMergedAnnotation(targetClass, ToolResultCacheable.class);
+        }
+        if (cacheable == null || !cacheable.enabled()) {
+            return joinPoint.proceed();
+        }
+
+        // 查找框架注入的会话上下文，其余参数规范化后作为缓存键
+        String sessionId = null;
+        Object[] args = joinPoint.getArgs();
+        List<Object> toolArgs = new ArrayList<>(args.length);
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof McpSyncServerExchange exchange) {
+                sessionId = exchange.sessionId();
+            } else {
+                args[i] = canonicalize(args[i]);
+                toolArgs.add(args[i]);
+            }
+        }
+        if (sessionId == null) {
+            return joinPoint.proceed(args);
+        }
+
+        Duration ttl = cacheable.ttlSeconds() > 0 ? Duration.ofSeconds(cacheable.ttlSeconds()) : null;
+        String toolName = toolNames.computeIfAbsent(method, ToolResultCacheAspect::toolName);
+        return toolResultCache.get(sessionId, toolName, toolArgs.toArray(), ttl, () -> {
+            try {
+                return joinPoint.proceed(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static Object canonicalize(Object arg) {
+        if (arg instanceof String text) {
+            String trimmed = text.strip();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+        return arg;
+    }
+
+    private static String toolName(Method method) {
+        McpTool mcpTool = method.getAnnotation(McpTool.class);
+        return mcpTool != null && !mcpTool.name().isEmpty() ? mcpTool.name() : method.getName();
+    }
+}
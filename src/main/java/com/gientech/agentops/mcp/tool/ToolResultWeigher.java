@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 工具结果的缓存权重估算
+ * 按结果的结构估算序列化后的JSON字节数，不实际序列化：集合和Map只估算首个元素，再乘以元素个数，
+ * 因此开销只与结果的字段数有关，与行数无关。估算值只用于 {@link ToolResultCache} 的字节预算，不要求精确
+ */
+final class ToolResultWeigher {
+
+    // 递归深度上限，超过后按固定大小计算
+    private static final int MAX_DEPTH = 8;
+
+    // 数字、布尔、日期等标量的估算字节数
+    private static final int SCALAR_BYTES = 16;
+
+    // 无法识别结构的对象的估算字节数
+    private static final int OPAQUE_BYTES = 64;
+
+    // 每种记录类型的组件访问器只解析一次
+    private static final ClassValue<Component[]> COMPONENTS = new ClassValue<>() {
+        @Override
+        protected Component[] computeValue(Class<?> type) {
+            RecordComponent[] recordComponents = type.getRecordComponents();
+            Component[] components = new Component[recordComponents.length];
+            for (int i = 0; i < recordComponents.length; i++) {
+                Method accessor = recordComponents[i].getAccessor();
+                accessor.setAccessible(true);
+                components[i] = new Component(recordComponents[i].getName().length(), accessor);
+            }
+            return components;
+        }
+    };
+
+    private ToolResultWeigher() {
+    }
+
+    /**
+     * 估算工具结果序列化后的字节数
+     * @param value 工具结果
+     * @return 估算字节数，不超过 Integer.MAX_VALUE
+     */
+    static int estimateBytes(Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(value, 0));
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence text) {
+            return 2 + utf8Length(text);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor) {
+            return SCALAR_BYTES;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OPAQUE_BYTES;
+        }
+        if (value instanceof Collection<?> collection) {
+            if (collection.isEmpty()) {
+                return 2;
+            }
+            Iterator<?> iterator = collection.iterator();
+            return 2 + collection.size() * (estimate(iterator.next(), depth + 1) + 1);
+        }
+        if (value instanceof Map<?, ?> map) {
+            if (map.isEmpty()) {
+                return 2;
+            }
+            Map.Entry<?, ?> first = map.entrySet().iterator().next();
+            return 2 + map.size() * (estimate(first.getKey(), depth + 1) + estimate(first.getValue(), depth + 1) + 2);
+        }
+        if (value instanceof Object[] array) {
+            return array.length == 0 ? 2 : 2 + array.length * (estimate(array[0], depth + 1) + 1);
+        }
+        if (value instanceof Record) {
+            long bytes = 2;
+            for (Component component : COMPONENTS.get(value.getClass())) {
+                Object field = component.get(value);
+                // 空字段不参与序列化
+                if (field != null) {
+                    bytes += component.nameLength() + 4 + estimate(field, depth + 1);
+                }
+            }
+            return bytes;
+        }
+        return OPAQUE_BYTES;
+    }
+
+    // 字符串都很短且只估算首行，逐字符计算UTF-8长度的开销可以忽略；代理对按两个3字节字符计算，略有高估
+    private static long utf8Length(CharSequence text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            bytes += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+        }
+        return bytes;
+    }
+
+    private record Component(int nameLength, Method accessor) {
+
+        Object get(Object record) {
+            try {
+                return accessor.invoke(record);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+    }
+}
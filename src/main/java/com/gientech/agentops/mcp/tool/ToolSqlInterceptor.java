@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MyBatis拦截器：把工具调用期间执行的每条SQL记入当前的 {@link ToolInvocation}，并按配置交给 {@link InvocationLogger} 记录。
+ * 不在工具调用中且未开启SQL日志时直接放行
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class ToolSqlInterceptor implements Interceptor {
+
+    @Autowired
+    private InvocationLogger invocationLogger;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        ToolInvocation toolInvocation = ToolInvocation.current();
+        boolean logging = invocationLogger.isSqlLogEnabled();
+        if (toolInvocation == null && !logging) {
+            return invocation.proceed();
+        }
+
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        long start = System.nanoTime();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            long rows = result instanceof List<?> list ? list.size() : result instanceof Integer count ? count : 0;
+            if (toolInvocation != null) {
+                toolInvocation.recordStatement(statement.getId(), rows, nanos);
+            }
+            if (logging) {
+                invocationLogger.logSql(toolInvocation != null ? toolInvocation.getToolName() : null,
+                        statement.getId(), () -> boundSql(args).getSql(), rows, nanos, failed);
+            }
+        }
+    }
+
+    private static BoundSql boundSql(Object[] args) {
+        if (args.length == 6) {
+            return (BoundSql) args[5];
+        }
+        return ((MappedStatement) args[0]).getBoundSql(args[1]);
+    }
+}
@@ -84,4 +84,7 @@ CREATE TABLE IF NOT EXISTS overdue_record (
     update_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (contract_id) REFERENCES loan_contract(id),
     UNIQUE KEY uk_contract_overdue_date (contract_id, overdue_date)
-);
\ No newline at end of file
+);
+
+-- 逾期记录覆盖索引：按合同查询有逾期金额的记录并按逾期日期排序
+CREATE INDEX IF NOT EXISTS idx_overdue_contract_date_amount ON overdue_record (contract_id, overdue_date, overdue_amount);
\ No newline at end of file
@@ -23,6 +23,7 @@
  */
 package com.gientech.agentops.mcp;
 
+import java.util.List;
 import java.util.Map;
 
 import io.modelcontextprotocol.client.McpClient;
@@ -81,6 +82,12 @@ public class LoanCreditTestClient {
         // 测试查询逾期记录工具
         testQueryOverdueRecords(client);
 
+        // 测试批量查询授信额度工具
+        testQueryCreditLimitsBatch(client);
+
+        // 测试批量查询贷款余额工具
+        testQueryLoanBalancesBatch(client);
+
         client.closeGracefully();
         System.out.println("\nMCP客户端已优雅关闭");
     }
@@ -198,4 +205,51 @@ public class LoanCreditTestClient {
             System.out.println("查询逾期记录失败: " + e.getMessage());
         }
     }
+
+    // 测试批量查询授信额度工具
+    private void testQueryCreditLimitsBatch(McpSyncClient client) {
+        System.out.println("\n===== 测试 'queryCreditLimitsBatch' 工具 =====");
+        try {
+            // 构建请求参数 - 包含一个不存在的客户，验证逐条返回错误
+            Map<String, Object> params = Map.of(
+                "items", List.of(
+                    Map.of("idType", "身份证", "idNumber", "110101199001011234", "productName", "公积金贷"),
+                    Map.of("idType", "身份证", "idNumber", "110101199102022345", "productName", "消费贷"),
+                    Map.of("idType", "身份证", "idNumber", "000000000000000000", "productName", "消费贷")
+                )
+            );
+            
+            // 调用工具
+            CallToolRequest request = new CallToolRequest("queryCreditLimitsBatch", params);
+            CallToolResult result = client.callTool(request);
+            
+            // 打印结果
+            System.out.println("批量查询授信额度结果: " + result.toString());
+        } catch (Exception e) {
+            System.out.println("批量查询授信额度失败: " + e.getMessage());
+        }
+    }
+
+    // 测试批量查询贷款余额工具
+    private void testQueryLoanBalancesBatch(McpSyncClient client) {
+        System.out.println("\n===== 测试 'queryLoanBalancesBatch' 工具 =====");
+        try {
+            // 构建请求参数 - 王五没有公积金贷合同，验证逐条返回错误
+            Map<String, Object> params = Map.of(
+                "items", List.of(
+                    Map.of("idType", "身份证", "idNumber", "110101199001011234", "productName", "公积金贷"),
+                    Map.of("idType", "身份证", "idNumber", "110101199203033456", "productName", "公积金贷")
+                )
+            );
+            
+            // 调用工具
+            CallToolRequest request = new CallToolRequest("queryLoanBalancesBatch", params);
+            CallToolResult result = client.callTool(request);
+            
+            // 打印结果
+            System.out.println("批量查询贷款余额结果: " + result.toString());
+        } catch (Exception e) {
+            System.out.println("批量查询贷款余额失败: " + e.getMessage());
+        }
+    }
 }
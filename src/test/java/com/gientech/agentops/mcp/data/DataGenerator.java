@@ -0,0 +1,540 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.data;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 零售信贷测试数据生成器
+ * 在已有数据之后追加客户、客户授信、贷款合同、还款计划和逾期记录，供压测和基准测试使用。
+ *
+ * 数据分布：
+ * - 每个客户在1~3个贷款产品下有授信（约60%/30%/10%），第 index 个客户的主产品固定为
+ *   PRODUCT_NAMES[index % 3]，且主产品下至少有一笔今年仍在还款的有效合同，见 {@link #customer(int)}
+ * - 每个产品下的合同数服从几何分布，均值由 contractsPerProduct 指定，少数客户合同很多
+ * - 贷款期限在12~360期之间，短期限居多；贷款金额服从对数正态分布
+ * - 约15%的合同已结清；逾期合同比例由 overdueRate 指定，逾期期数同样服从几何分布
+ * - 指定 activeContracts 时，每个客户只在主产品下有授信，且恰好有 activeContracts 笔有效合同，用于按合同数对比查询开销
+ *
+ * 写入方式：
+ * - BATCH：JDBC批量插入，适合任意数据库
+ * - CSV：先写CSV文件，再用H2的 CSVREAD 批量导入，大数据量时更快
+ *
+ * 独立运行示例：
+ * --url=jdbc:h2:file:./data/mcp4ail;MODE=MySQL;DATABASE_TO_UPPER=FALSE --customers=1000000 --method=CSV
+ */
+public class DataGenerator {
+
+    public static final String ID_TYPE = "身份证";
+
+    // data.sql 中的贷款产品
+    public static final String[] PRODUCT_NAMES = {"公积金贷", "税务贷", "消费贷"};
+
+    private static final int[] TERMS = {12, 24, 36, 60, 120, 240, 360};
+    private static final int[] TERM_WEIGHTS = {30, 25, 20, 12, 7, 4, 2};
+
+    private static final String[] SURNAMES = {"张", "王", "李", "赵", "刘", "陈", "杨", "黄", "周", "吴"};
+    private static final String[] CITIES = {"北京市", "上海市", "广州市", "深圳市", "杭州市", "成都市", "武汉市", "南京市"};
+
+    // 月利率 0.4%
+    private static final double MONTHLY_RATE = 0.004;
+
+    private final Options options;
+
+    public DataGenerator(Options options) {
+        this.options = options;
+    }
+
+    /**
+     * 第 index 个生成客户的查询条件
+     */
+    public static GeneratedCustomer customer(int index) {
+        return new GeneratedCustomer(SURNAMES[index % SURNAMES.length] + "客户" + index, ID_TYPE, idNumber(index),
+                PRODUCT_NAMES[index % PRODUCT_NAMES.length]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        String url = values.getOrDefault("url", "jdbc:h2:file:./data/mcp4ail;MODE=MySQL;DATABASE_TO_UPPER=FALSE");
+        Options options = Options.defaults()
+                .withCustomers(Integer.parseInt(values.getOrDefault("customers", "10000")))
+                .withContractsPerProduct(Double.parseDouble(values.getOrDefault("contracts-per-product", "1.5")))
+                .withOverdueRate(Double.parseDouble(values.getOrDefault("overdue-rate", "0.05")))
+                .withMethod(Method.valueOf(values.getOrDefault("method", "BATCH")))
+                .withSeed(Long.parseLong(values.getOrDefault("seed", "20250101")));
+
+        DataSource dataSource = new DriverManagerDataSource(url, values.getOrDefault("user", "sa"),
+                values.getOrDefault("password", ""));
+        long start = System.nanoTime();
+        Counts counts = new DataGenerator(options).generate(dataSource);
+        System.out.printf("生成完成，耗时%.1f秒：%s%n", (System.nanoTime() - start) / 1e9, counts);
+    }
+
+    /**
+     * 生成数据，库中没有表时先执行 schema.sql 和 data.sql
+     * @param dataSource 数据源
+     * @return 各表新增的行数
+     */
+    public Counts generate(DataSource dataSource) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            initSchemaIfAbsent(connection);
+            connection.setAutoCommit(false);
+
+            long[] productIds = productIds(connection);
+            long customerId = maxId(connection, "customer");
+            long contractId = maxId(connection, "loan_contract");
+            LocalDate today = LocalDate.now();
+            YearMonth currentMonth = YearMonth.from(today);
+            SplittableRandom random = new SplittableRandom(options.seed());
+            Counts counts = new Counts();
+
+            Path csvDir = options.method() == Method.CSV ? Files.createTempDirectory("mcp4ail-data") : null;
+            // 按外键依赖顺序排列
+            List<RowSink> sinks = new ArrayList<>();
+            RowSink customers = sink(connection, csvDir, "customer",
+                    "id, name, id_type, id_number, phone, address", sinks);
+            RowSink credits = sink(connection, csvDir, "customer_credit",
+                    "customer_id, product_id, credit_limit, available_limit, status", sinks);
+            RowSink contracts = sink(connection, csvDir, "loan_contract",
+                    "id, contract_no, customer_id, product_id, loan_amount, loan_balance, loan_date, maturity_date, status", sinks);
+            RowSink plans = sink(connection, csvDir, "repayment_plan",
+                    "contract_id, repayment_date, repayment_amount, interest_amount, principal_amount, remaining_balance, status", sinks);
+            RowSink overdues = sink(connection, csvDir, "overdue_record",
+                    "contract_id, overdue_date, due_amount, paid_amount, overdue_amount, penalty_amount", sinks);
+
+            try {
+                int lastCustomer = options.firstCustomer() + options.customers();
+                for (int i = options.firstCustomer(); i < lastCustomer; i++) {
+                    customerId++;
+                    GeneratedCustomer identity = customer(i);
+                    customers.add(customerId, identity.name(), ID_TYPE, identity.idNumber(),
+                            String.format("13%09d", i % 1_000_000_000), CITIES[i % CITIES.length] + "XX路" + i + "号");
+                    counts.customers++;
+
+                    boolean exact = options.activeContracts() > 0;
+                    int productCount = exact ? 1 : pick(random, new int[]{1, 2, 3}, new int[]{60, 30, 10});
+                    for (int p = 0; p < productCount; p++) {
+                        long productId = productIds[(i + p) % productIds.length];
+                        boolean primary = p == 0;
+
+                        long limitCents = Math.round(logNormal(random, 12.0, 0.6)) * 100;
+                        long usedCents = 0;
+                        int contractCount = exact ? options.activeContracts()
+                                : primary ? 1 + geometric(random, options.contractsPerProduct() - 1)
+                                : geometric(random, options.contractsPerProduct());
+                        for (int c = 0; c < contractCount; c++) {
+                            contractId++;
+                            // 主产品的第一笔合同：1~11个月前放款、期限不少于24期，保证今年有还款计划
+                            boolean anchor = primary && c == 0;
+                            int term = anchor ? Math.max(24, pick(random, TERMS, TERM_WEIGHTS)) : pick(random, TERMS, TERM_WEIGHTS);
+                            YearMonth loanMonth = anchor
+                                    ? currentMonth.minusMonths(1 + random.nextInt(11))
+                                    : currentMonth.minusMonths(random.nextInt(Math.min(term + 24, 120)));
+                            boolean closed = !exact && !anchor && random.nextInt(100) < 15;
+                            long amountCents = Math.round(logNormal(random, 11.5, 0.8)) * 100;
+
+                            long principalCents = amountCents / term;
+                            long remainingCents = amountCents;
+                            long paidMonths = Math.max(0, Math.min(term, loanMonth.until(currentMonth, ChronoUnit.MONTHS)));
+                            for (int m = 1; m <= term; m++) {
+                                YearMonth month = loanMonth.plusMonths(m);
+                                long interestCents = Math.round(remainingCents * MONTHLY_RATE);
+                                long principal = m == term ? remainingCents : principalCents;
+                                remainingCents -= principal;
+                                plans.add(contractId, month.toString(), amount(principal + interestCents), amount(interestCents),
+                                        amount(principal), amount(remainingCents),
+                                        closed || m <= paidMonths ? "PAID" : "UPCOMING");
+                                counts.repaymentPlans++;
+                            }
+                            long balanceCents = closed ? 0 : amountCents - principalCents * paidMonths;
+                            usedCents += balanceCents;
+
+                            LocalDate loanDate = loanMonth.atDay(1);
+                            contracts.add(contractId, "GEN" + contractId, customerId, productId, amount(amountCents),
+                                    amount(balanceCents), loanDate, loanDate.plusMonths(term), closed ? "CLOSED" : "ACTIVE");
+                            counts.contracts++;
+
+                            if (!closed && paidMonths > 0 && random.nextDouble() < options.overdueRate()) {
+                                int overdueMonths = (int) Math.min(paidMonths, 1 + geometric(random, 1.0));
+                                long dueCents = principalCents + Math.round(amountCents * MONTHLY_RATE);
+                                for (int m = 0; m < overdueMonths; m++) {
+                                    long paid = random.nextInt(100) < 30 ? 0 : dueCents / 2;
+                                    long overdue = dueCents - paid;
+                                    overdues.add(contractId, currentMonth.minusMonths(overdueMonths - m).toString(),
+                                            amount(dueCents), amount(paid), amount(overdue), amount(overdue / 20));
+                                    counts.overdueRecords++;
+                                }
+                            }
+                        }
+
+                        limitCents = Math.max(limitCents, usedCents);
+                        credits.add(customerId, productId, amount(limitCents), amount(limitCents - usedCents), "ACTIVE");
+                        counts.credits++;
+                    }
+
+                    if ((i + 1) % options.batchSize() == 0) {
+                        for (RowSink sink : sinks) {
+                            sink.flush();
+                        }
+                        connection.commit();
+                    }
+                }
+
+                for (RowSink sink : sinks) {
+                    sink.finish();
+                }
+                connection.commit();
+            } finally {
+                for (RowSink sink : sinks) {
+                    sink.close();
+                }
+            }
+
+            // 插入时指定了ID，需将自增序列推进到最大ID之后
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE customer ALTER COLUMN id RESTART WITH " + (customerId + 1));
+                statement.execute("ALTER TABLE loan_contract ALTER COLUMN id RESTART WITH " + (contractId + 1));
+            }
+            connection.commit();
+            return counts;
+        }
+    }
+
+    private void initSchemaIfAbsent(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet tables = metaData.getTables(null, null, "customer", null)) {
+            if (tables.next()) {
+                return;
+            }
+        }
+        ScriptUtils.executeSqlScript(connection, new EncodedResource(new ClassPathResource("schema.sql"), StandardCharsets.UTF_8));
+        ScriptUtils.executeSqlScript(connection, new EncodedResource(new ClassPathResource("data.sql"), StandardCharsets.UTF_8));
+    }
+
+    private RowSink sink(Connection connection, Path csvDir, String table, String columns, List<RowSink> sinks)
+            throws SQLException, IOException {
+        RowSink sink = csvDir != null
+                ? new CsvSink(connection, csvDir.resolve(table + ".csv"), table, columns)
+                : new BatchSink(connection, table, columns);
+        sinks.add(sink);
+        return sink;
+    }
+
+    private static long[] productIds(Connection connection) throws SQLException {
+        long[] ids = new long[PRODUCT_NAMES.length];
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM loan_product WHERE product_name = ?")) {
+            for (int i = 0; i < PRODUCT_NAMES.length; i++) {
+                statement.setString(1, PRODUCT_NAMES[i]);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new IllegalStateException("贷款产品不存在：" + PRODUCT_NAMES[i]);
+                    }
+                    ids[i] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static String idNumber(int index) {
+        return String.format("GEN%015d", index);
+    }
+
+    private static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    // 按权重选取
+    private static int pick(SplittableRandom random, int[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    // 均值为 mean 的几何分布（取值从0开始）
+    private static int geometric(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1.0 / (mean + 1.0);
+        return (int) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p));
+    }
+
+    private static double logNormal(SplittableRandom random, double mu, double sigma) {
+        // Box-Muller
+        double gaussian = Math.sqrt(-2.0 * Math.log(1.0 - random.nextDouble())) * Math.cos(2.0 * Math.PI * random.nextDouble());
+        return Math.exp(mu + sigma * gaussian);
+    }
+
+    /**
+     * 写入方式
+     */
+    public enum Method {
+        BATCH, CSV
+    }
+
+    /**
+     * 生成参数
+     * @param customers 客户数量
+     * @param contractsPerProduct 每个授信产品下的平均合同数
+     * @param overdueRate 有逾期记录的合同比例
+     * @param method 写入方式
+     * @param batchSize 每多少个客户提交一次
+     * @param seed 随机种子，相同参数生成相同数据
+     * @param firstCustomer 第一个生成客户的序号，向已生成数据的库中追加客户时须避开已有序号
+     * @param activeContracts 大于0时每个客户恰好有这么多笔有效合同，忽略 contractsPerProduct
+     */
+    public record Options(int customers, double contractsPerProduct, double overdueRate, Method method,
+                          int batchSize, long seed, int firstCustomer, int activeContracts) {
+
+        public static Options defaults() {
+            return new Options(10_000, 1.5, 0.05, Method.BATCH, 1000, 20250101L, 0, 0);
+        }
+
+        public Options withCustomers(int customers) {
+            return new Options(customers, contractsPerProduct, overdueRate, method, batchSize, seed, firstCustomer, activeContracts);
+        }
+
+        public Options withContractsPerProduct(double contractsPerProduct) {
+            return new Options(customers, contractsPerProduct, overdueRate, method, batchSize, seed, firstCustomer, activeContracts);
+        }
+
+        public Options withOverdueRate(double overdueRate) {
+            return new Options(customers, contractsPerProduct, overdueRate, method, batchSize, seed, firstCustomer, activeContracts);
+        }
+
+        public Options withMethod(Method method) {
+            return new Options(customers, contractsPerProduct, overdueRate, method, batchSize, seed, firstCustomer, activeContracts);
+        }
+
+        public Options withSeed(long seed) {
+            return new Options(customers, contractsPerProduct, overdueRate, method, batchSize, seed, firstCustomer, activeContracts);
+        }
+
+        public Options withFirstCustomer(int firstCustomer) {
+            return new Options(customers, contractsPerProduct, overdueRate, method, batchSize, seed, firstCustomer, activeContracts);
+        }
+
+        public Options withActiveContracts(int activeContracts) {
+            return new Options(customers, contractsPerProduct, overdueRate, method, batchSize, seed, firstCustomer, activeContracts);
+        }
+    }
+
+    /**
+     * 生成客户的查询条件
+     * @param productName 该客户有授信和有效合同的贷款产品
+     */
+    public record GeneratedCustomer(String name, String idType, String idNumber, String productName) {
+    }
+
+    /**
+     * 各表新增的行数
+     */
+    public static class Counts {
+        long customers;
+        long credits;
+        long contracts;
+        long repaymentPlans;
+        long overdueRecords;
+
+        @Override
+        public String toString() {
+            return "客户" + customers + "，授信" + credits + "，合同" + contracts
+                    + "，还款计划" + repaymentPlans + "，逾期记录" + overdueRecords;
+        }
+    }
+
+    /**
+     * 单表行写入器
+     */
+    private interface RowSink extends AutoCloseable {
+
+        void add(Object... values) throws SQLException;
+
+        // 写出已缓冲的行
+        void flush() throws SQLException;
+
+        // 全部行写入完成
+        void finish() throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    /**
+     * JDBC批量插入
+     */
+    private static class BatchSink implements RowSink {
+
+        private final PreparedStatement statement;
+
+        BatchSink(Connection connection, String table, String columns) throws SQLException {
+            String placeholders = "?" + ", ?".repeat(columns.split(",").length - 1);
+            this.statement = connection.prepareStatement(
+                    "INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")");
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+        }
+
+        @Override
+        public void flush() throws SQLException {
+            statement.executeBatch();
+        }
+
+        @Override
+        public void finish() throws SQLException {
+            flush();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+
+    /**
+     * 写CSV文件，完成后用H2的 CSVREAD 一次导入
+     */
+    private static class CsvSink implements RowSink {
+
+        private final Connection connection;
+
+        private final Path file;
+
+        private final String table;
+
+        private final String columns;
+
+        private final BufferedWriter writer;
+
+        CsvSink(Connection connection, Path file, String table, String columns) throws IOException {
+            this.connection = connection;
+            this.file = file;
+            this.table = table;
+            this.columns = columns;
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void add(Object... values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write('"');
+                    writer.write(values[i].toString().replace("\"", "\"\""));
+                    writer.write('"');
+                }
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            // 导入在 finish 时一次完成
+        }
+
+        @Override
+        public void finish() throws SQLException {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            String header = columns.replace(" ", "");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO " + table + " (" + columns + ") SELECT * FROM CSVREAD('"
+                        + file.toAbsolutePath().toString().replace("'", "''") + "', '" + header + "', 'charset=UTF-8')");
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                writer.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 空闲MCP会话的内存占用探测工具
+ * 建立N个完成初始化但不发起调用的STREAMABLE会话，通过 /actuator/metrics 比较建立前后服务器的
+ * 堆内存、非堆内存和存活线程数，输出每个空闲会话的平均占用，用于对比WebMVC与WebFlux两种构建
+ *
+ * 每个阶段采样多次并取最小值，以减少GC时机造成的抖动；结果包含会话对象及其连接缓冲区，
+ * 不包含线程栈等进程原生内存，线程数的变化可以作为参考
+ *
+ * 参数示例：
+ * --url=http://localhost:9081 --sessions=2000 --settle=10s --samples=5
+ */
+public class IdleSessionMemoryProbe {
+
+    private static final String[] METRICS = {"jvm.memory.used?tag=area:heap", "jvm.memory.used?tag=area:nonheap",
+            "jvm.threads.live"};
+
+    private static final String[] LABELS = {"堆内存(KB)", "非堆内存(KB)", "存活线程数"};
+
+    private final Options options;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public IdleSessionMemoryProbe(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new IdleSessionMemoryProbe(Options.parse(args)).run();
+    }
+
+    public void run() throws Exception {
+        System.out.printf("连接 %s，建立%d个空闲MCP会话%n", options.url(), options.sessions());
+        double[] before = sample();
+
+        List<McpSyncClient> clients = new ArrayList<>(options.sessions());
+        double[] after;
+        try {
+            for (int i = 0; i < options.sessions(); i++) {
+                McpSyncClient client = McpClient.sync(HttpClientStreamableHttpTransport.builder(options.url()).build())
+                        .requestTimeout(Duration.ofSeconds(30))
+                        .build();
+                client.initialize();
+                clients.add(client);
+            }
+            Thread.sleep(options.settle().toMillis());
+            after = sample();
+        } finally {
+            for (McpSyncClient client : clients) {
+                client.closeGracefully();
+            }
+        }
+
+        System.out.printf("%n%-16s %14s %14s %14s %14s%n", "指标", "建立前", "建立后", "增加", "每会话");
+        for (int i = 0; i < METRICS.length; i++) {
+            double scale = i < 2 ? 1024.0 : 1.0;
+            double delta = after[i] - before[i];
+            System.out.printf("%-16s %14.1f %14.1f %14.1f %14.3f%n", LABELS[i],
+                    before[i] / scale, after[i] / scale, delta / scale, delta / scale / options.sessions());
+        }
+    }
+
+    // 每个指标采样 options.samples 次，间隔1秒，取最小值
+    private double[] sample() throws Exception {
+        double[] values = new double[METRICS.length];
+        Arrays.fill(values, Double.MAX_VALUE);
+        for (int n = 0; n < options.samples(); n++) {
+            if (n > 0) {
+                Thread.sleep(1000);
+            }
+            for (int i = 0; i < METRICS.length; i++) {
+                values[i] = Math.min(values[i], readMetric(METRICS[i]));
+            }
+        }
+        return values;
+    }
+
+    private double readMetric(String metric) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(options.url() + "/actuator/metrics/" + metric))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("读取指标 " + metric + " 失败，HTTP " + response.statusCode());
+        }
+        JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+        return measurements.path(0).path("value").asDouble();
+    }
+
+    /**
+     * 探测参数
+     * @param url MCP服务器地址
+     * @param sessions 空闲会话数
+     * @param settle 会话建立后等待的时长，等待服务器完成会话相关的分配
+     * @param samples 每个阶段的采样次数
+     */
+    public record Options(String url, int sessions, Duration settle, int samples) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (arg.startsWith("--") && arg.contains("=")) {
+                    int separator = arg.indexOf('=');
+                    values.put(arg.substring(2, separator), arg.substring(separator + 1));
+                }
+            }
+            String settle = values.getOrDefault("settle", "10s");
+            return new Options(
+                    values.getOrDefault("url", "http://localhost:9081"),
+                    Integer.parseInt(values.getOrDefault("sessions", "1000")),
+                    settle.endsWith("s") ? Duration.ofSeconds(Long.parseLong(settle.substring(0, settle.length() - 1)))
+                            : Duration.parse(settle),
+                    Integer.parseInt(values.getOrDefault("samples", "5")));
+        }
+    }
+}
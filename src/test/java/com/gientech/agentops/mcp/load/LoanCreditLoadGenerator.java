@@ -0,0 +1,331 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.Content;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 零售信贷系统MCP服务器压测工具
+ * 对本地启动的 loan-credit-server 建立N个并发MCP会话，按工具组合发起调用，输出每个工具的吞吐量及延迟分位数
+ *
+ * 两种负载模型：
+ * closed - 每个会话调用返回后立即发起下一次调用，吞吐量由服务器响应速度决定
+ * open   - 按固定速率（--rate 次/秒）发起调用，与服务器响应速度无关；
+ *          延迟从计划发起时间开始计算，会话全忙时的排队时间也计入延迟，避免协调遗漏
+ *
+ * 客户选取：
+ * 服务器按会话缓存工具结果（mcp4ail.tool-cache.ttl），只用 data.sql 中的3个客户时几乎每次调用都命中缓存，
+ * 测得的是缓存而不是查询。测量查询性能时先用 DataGenerator 写入客户，再以 --customers 指定同样的客户数
+ *
+ * 工具返回 isError 或结果中 success 为 false 时都计为错误
+ *
+ * 参数示例：
+ * --url=http://localhost:9081 --sessions=16 --mode=open --rate=500 --warmup=10s --duration=60s
+ * --mix=queryCreditLimit=5,queryRepaymentPlans=1 --customers=10000
+ */
+public class LoanCreditLoadGenerator {
+
+    // 延迟直方图的最大可记录值（微秒）及精度
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Options options;
+
+    private final ToolMix mix;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, ToolRecorder> recorders = new LinkedHashMap<>();
+
+    // 预热阶段结束前不记录结果
+    private volatile boolean recording;
+
+    public LoanCreditLoadGenerator(Options options) {
+        this.options = options;
+        this.mix = new ToolMix(options.mix(), options.customers());
+        for (String tool : mix.getTools()) {
+            recorders.put(tool, new ToolRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoanCreditLoadGenerator(Options.parse(args)).run();
+    }
+
+    public void run() throws Exception {
+        System.out.printf("连接 %s，建立%d个MCP会话，负载模型：%s%s%n", options.url(), options.sessions(), options.mode(),
+                "open".equals(options.mode()) ? "，速率" + options.rate() + "次/秒" : "");
+        System.out.printf("客户数：%d%n", mix.getCustomerCount());
+        if (options.customers() == 0) {
+            System.out.println("警告：只使用 data.sql 中的客户，调用几乎都会命中工具结果缓存；"
+                    + "请先用 DataGenerator 写入客户并指定 --customers，或以 --mcp4ail.tool-cache.ttl=0s 启动服务器");
+        }
+        List<McpSyncClient> clients = new ArrayList<>(options.sessions());
+        for (int i = 0; i < options.sessions(); i++) {
+            McpSyncClient client = McpClient.sync(HttpClientStreamableHttpTransport.builder(options.url()).build())
+                    .requestTimeout(Duration.ofSeconds(30))
+                    .build();
+            client.initialize();
+            clients.add(client);
+        }
+
+        long measureStart;
+        long measureEnd;
+        try {
+            long start = System.nanoTime();
+            long warmupEnd = start + options.warmup().toNanos();
+            measureEnd = warmupEnd + options.duration().toNanos();
+            Thread driver = new Thread(() -> {
+                if ("open".equals(options.mode())) {
+                    runOpenLoop(clients, measureEnd);
+                } else {
+                    runClosedLoop(clients, measureEnd);
+                }
+            }, "load-driver");
+            driver.start();
+
+            sleepUntil(warmupEnd);
+            recording = true;
+            measureStart = System.nanoTime();
+            driver.join();
+        } finally {
+            for (McpSyncClient client : clients) {
+                client.closeGracefully();
+            }
+        }
+
+        report((measureEnd - measureStart) / 1_000_000_000.0);
+    }
+
+    // 闭环模型：每个会话一个线程，调用返回后立即发起下一次调用
+    private void runClosedLoop(List<McpSyncClient> clients, long endNanos) {
+        ExecutorService executor = Executors.newFixedThreadPool(clients.size());
+        for (McpSyncClient client : clients) {
+            executor.execute(() -> {
+                while (System.nanoTime() < endNanos) {
+                    String tool = mix.nextTool();
+                    call(client, tool, System.nanoTime());
+                }
+            });
+        }
+        shutdown(executor);
+    }
+
+    // 开环模型：按固定间隔计划调用，由空闲会话执行
+    private void runOpenLoop(List<McpSyncClient> clients, long endNanos) {
+        BlockingQueue<McpSyncClient> idle = new ArrayBlockingQueue<>(clients.size(), false, clients);
+        ExecutorService executor = Executors.newFixedThreadPool(clients.size());
+        long interval = 1_000_000_000L / Math.max(1, options.rate());
+        long intended = System.nanoTime();
+        while (intended < endNanos) {
+            sleepUntil(intended);
+            long scheduled = intended;
+            McpSyncClient client;
+            try {
+                // 会话全忙时在此等待，等待时间计入本次调用的延迟
+                client = idle.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            String tool = mix.nextTool();
+            executor.execute(() -> {
+                try {
+                    call(client, tool, scheduled);
+                } finally {
+                    idle.offer(client);
+                }
+            });
+            intended += interval;
+        }
+        shutdown(executor);
+    }
+
+    private void call(McpSyncClient client, String tool, long startNanos) {
+        boolean success;
+        try {
+            CallToolResult result = client.callTool(new CallToolRequest(tool, mix.arguments(tool)));
+            success = !Boolean.TRUE.equals(result.isError()) && reportsSuccess(result);
+        } catch (Exception e) {
+            success = false;
+        }
+        if (recording) {
+            recorders.get(tool).record(System.nanoTime() - startNanos, success);
+        }
+    }
+
+    // 工具结果为JSON文本时，success 字段为 false 表示业务失败（如客户不存在）
+    private boolean reportsSuccess(CallToolResult result) {
+        for (Content content : result.content()) {
+            if (content instanceof TextContent text) {
+                try {
+                    JsonNode success = objectMapper.readTree(text.text()).get("success");
+                    if (success != null && !success.asBoolean(true)) {
+                        return false;
+                    }
+                } catch (Exception e) {
+                    // 非JSON文本不含 success 字段
+                }
+            }
+        }
+        return true;
+    }
+
+    private void report(double seconds) {
+        System.out.printf("%n测量时长 %.1f 秒%n", seconds);
+        System.out.printf("%-30s %10s %10s %8s %10s %10s %10s %10s%n",
+                "工具", "调用次数", "吞吐量/秒", "错误数", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        for (Map.Entry<String, ToolRecorder> entry : recorders.entrySet()) {
+            ToolRecorder recorder = entry.getValue();
+            Histogram histogram = recorder.histogram;
+            total.add(histogram);
+            totalErrors += recorder.errors.sum();
+            printRow(entry.getKey(), histogram, recorder.errors.sum(), seconds);
+        }
+        printRow("合计", total, totalErrors, seconds);
+    }
+
+    private void printRow(String name, Histogram histogram, long errors, double seconds) {
+        long count = histogram.getTotalCount();
+        System.out.printf("%-30s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+                name, count, count / seconds, errors,
+                millis(histogram, 50.0), millis(histogram, 99.0), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 单个工具的延迟直方图（微秒）和错误计数
+     */
+    private static class ToolRecorder {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean success) {
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+    }
+
+    /**
+     * 压测参数
+     * @param url MCP服务器地址
+     * @param sessions 并发MCP会话数
+     * @param mode 负载模型，closed 或 open
+     * @param rate 开环模型下每秒发起的调用数
+     * @param warmup 预热时长，期间的调用不计入结果
+     * @param duration 测量时长
+     * @param mix 工具组合
+     * @param customers DataGenerator 生成的客户数，为0时只使用 data.sql 中的客户
+     */
+    public record Options(String url, int sessions, String mode, int rate, Duration warmup, Duration duration,
+                          String mix, int customers) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (arg.startsWith("--") && arg.contains("=")) {
+                    int separator = arg.indexOf('=');
+                    values.put(arg.substring(2, separator), arg.substring(separator + 1));
+                }
+            }
+            String mode = values.getOrDefault("mode", "closed");
+            if (!"closed".equals(mode) && !"open".equals(mode)) {
+                throw new IllegalArgumentException("负载模型只支持 closed 或 open: " + mode);
+            }
+            return new Options(
+                    values.getOrDefault("url", "http://localhost:9081"),
+                    Integer.parseInt(values.getOrDefault("sessions", "8")),
+                    mode,
+                    Integer.parseInt(values.getOrDefault("rate", "100")),
+                    parseDuration(values.getOrDefault("warmup", "10s")),
+                    parseDuration(values.getOrDefault("duration", "60s")),
+                    values.getOrDefault("mix", ToolMix.DEFAULT_MIX),
+                    Integer.parseInt(values.getOrDefault("customers", "0")));
+        }
+
+        // 支持 "30s"、"2m" 或ISO-8601格式
+        private static Duration parseDuration(String value) {
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            if (value.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            return Duration.parse(value);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.load;
+
+import com.gientech.agentops.mcp.dto.ResourceSchedulerResult;
+import com.gientech.agentops.mcp.providers.LoanProductPlanProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * resourceScheduler 并发压力测试
+ * 多个线程同时以随机开始日期直接调用工具（不启动Spring容器），将返回的冲突判断与独立计算的期望值比较，
+ * 日期取冲突窗口结束日前后各两年。存在错误结果或非预期异常时以非零状态退出
+ *
+ * 参数示例：
+ * --threads=64 --duration=30s --seed=42
+ */
+public class ResourceSchedulerStress {
+
+    private static final long CONFLICT_END_EPOCH_DAY = LocalDate.of(2023, 11, 10).toEpochDay();
+
+    private static final int WINDOW_DAYS = 730;
+
+    private final Options options;
+
+    private final LoanProductPlanProvider provider = new LoanProductPlanProvider();
+
+    private final AtomicLong calls = new AtomicLong();
+
+    private final AtomicLong wrongAnswers = new AtomicLong();
+
+    private final AtomicLong errors = new AtomicLong();
+
+    public ResourceSchedulerStress(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean passed = new ResourceSchedulerStress(Options.parse(args)).run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    public boolean run() throws InterruptedException {
+        System.out.printf("%d个线程并发调用resourceScheduler，持续%ds%n", options.threads(), options.duration().toSeconds());
+        long deadline = System.nanoTime() + options.duration().toNanos();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[options.threads()];
+        SplittableRandom seeds = new SplittableRandom(options.seed());
+        for (int i = 0; i < threads.length; i++) {
+            SplittableRandom random = seeds.split();
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (System.nanoTime() < deadline) {
+                    check(random);
+                }
+            }, "stress-" + i);
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        System.out.printf("调用次数: %d，错误结果: %d，异常: %d%n", calls.get(), wrongAnswers.get(), errors.get());
+        return wrongAnswers.get() == 0 && errors.get() == 0;
+    }
+
+    private void check(SplittableRandom random) {
+        long epochDay = CONFLICT_END_EPOCH_DAY + random.nextInt(-WINDOW_DAYS, WINDOW_DAYS);
+        String startDate = LocalDate.ofEpochDay(epochDay).toString();
+        boolean expectConflict = epochDay < CONFLICT_END_EPOCH_DAY;
+        calls.incrementAndGet();
+        try {
+            ResourceSchedulerResult result = provider.resourceScheduler("技术团队", "系统改造", startDate);
+            if (result.isSuccess() == expectConflict) {
+                if (wrongAnswers.incrementAndGet() <= 10) {
+                    System.out.printf("错误结果: startDate=%s, 期望冲突=%s, 返回=%s%n", startDate, expectConflict, result);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (errors.incrementAndGet() <= 10) {
+                System.out.printf("异常: startDate=%s, %s%n", startDate, e);
+            }
+        }
+    }
+
+    /**
+     * 压力测试参数
+     * @param threads 并发线程数
+     * @param duration 持续时长
+     * @param seed 随机种子
+     */
+    public record Options(int threads, Duration duration, long seed) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (arg.startsWith("--") && arg.contains("=")) {
+                    int separator = arg.indexOf('=');
+                    values.put(arg.substring(2, separator), arg.substring(separator + 1));
+                }
+            }
+            String duration = values.getOrDefault("duration", "30s");
+            return new Options(
+                    Integer.parseInt(values.getOrDefault("threads", "64")),
+                    duration.endsWith("s") ? Duration.ofSeconds(Long.parseLong(duration.substring(0, duration.length() - 1)))
+                            : Duration.parse(duration),
+                    Long.parseLong(values.getOrDefault("seed", "42")));
+        }
+    }
+}
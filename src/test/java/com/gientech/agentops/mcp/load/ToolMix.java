@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.load;
+
+import com.gientech.agentops.mcp.data.DataGenerator;
+import com.gientech.agentops.mcp.data.DataGenerator.GeneratedCustomer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 按权重随机选择工具的调用组合
+ * 格式为 "工具名=权重,工具名=权重"，例如 "queryCreditLimit=5,queryRepaymentPlans=1"
+ *
+ * 客户数为0时只使用 data.sql 中的3个客户，同一会话内的调用几乎都会命中工具结果缓存；
+ * 客户数大于0时从 {@link DataGenerator} 生成的前N个客户中随机选取，需先用 DataGenerator 写入同样数量的客户
+ */
+public class ToolMix {
+
+    /**
+     * 默认组合：以单客户查询为主，少量批量查询
+     */
+    public static final String DEFAULT_MIX = "queryCreditLimit=30,queryLoanBalanceByProduct=20,"
+            + "queryLoanBalancesByCustomer=15,queryRepaymentPlans=15,queryOverdueRecords=10,"
+            + "queryCreditLimitsBatch=5,queryLoanBalancesBatch=5";
+
+    // data.sql 中的客户及其有合同的贷款产品
+    private static final GeneratedCustomer[] SAMPLE_CUSTOMERS = {
+            new GeneratedCustomer("张三", DataGenerator.ID_TYPE, "110101199001011234", "公积金贷"),
+            new GeneratedCustomer("李四", DataGenerator.ID_TYPE, "110101199102022345", "消费贷"),
+            new GeneratedCustomer("王五", DataGenerator.ID_TYPE, "110101199203033456", "税务贷")
+    };
+
+    // 批量查询每次携带的客户数
+    private static final int BATCH_SIZE = 3;
+
+    private final int customers;
+
+    private final List<String> tools = new ArrayList<>();
+
+    private final int[] cumulativeWeights;
+
+    private final int totalWeight;
+
+    /**
+     * @param mix 工具组合
+     * @param customers DataGenerator 生成的客户数，为0时使用 data.sql 中的客户
+     */
+    public ToolMix(String mix, int customers) {
+        if (customers < 0) {
+            throw new IllegalArgumentException("客户数不能为负数: " + customers);
+        }
+        this.customers = customers;
+        List<Integer> weights = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight <= 0) {
+                continue;
+            }
+            tools.add(parts[0].trim());
+            weights.add(weight);
+        }
+        if (tools.isEmpty()) {
+            throw new IllegalArgumentException("工具组合不能为空: " + mix);
+        }
+        cumulativeWeights = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            sum += weights.get(i);
+            cumulativeWeights[i] = sum;
+        }
+        totalWeight = sum;
+    }
+
+    public List<String> getTools() {
+        return tools;
+    }
+
+    /**
+     * 参与调用的不同客户数
+     */
+    public int getCustomerCount() {
+        return customers > 0 ? customers : SAMPLE_CUSTOMERS.length;
+    }
+
+    /**
+     * 按权重随机选择一个工具
+     */
+    public String nextTool() {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return tools.get(i);
+            }
+        }
+        return tools.get(tools.size() - 1);
+    }
+
+    /**
+     * 构建工具调用参数，客户随机选取
+     * @param tool 工具名称
+     * @return 参数名到参数值的映射
+     */
+    public Map<String, Object> arguments(String tool) {
+        GeneratedCustomer customer = nextCustomer();
+        return switch (tool) {
+            case "queryCreditLimit", "queryLoanBalanceByProduct", "queryRepaymentPlans", "queryOverdueRecords",
+                    "queryRepaymentSchedule" ->
+                    Map.of("name", customer.name(), "idType", customer.idType(), "idNumber", customer.idNumber(),
+                            "productName", customer.productName());
+            case "queryLoanBalancesByCustomer", "queryCustomerPortfolio" ->
+                    Map.of("name", customer.name(), "idType", customer.idType(), "idNumber", customer.idNumber());
+            case "queryCreditLimitsBatch", "queryLoanBalancesBatch" -> {
+                List<Map<String, Object>> items = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    GeneratedCustomer item = i == 0 ? customer : nextCustomer();
+                    items.add(Map.of("idType", item.idType(), "idNumber", item.idNumber(),
+                            "productName", item.productName()));
+                }
+                yield Map.of("items", items);
+            }
+            case "recommendCoupons" ->
+                    Map.of("customerId", customer.idNumber(), "customerName", customer.name(), "customerType", "VIP");
+            case "queryCustomerCoupons", "queryCustomerPoints", "queryCustomerActivities" ->
+                    Map.of("customerId", customer.idNumber(), "customerName", customer.name());
+            case "queryMarketingActivities" -> Map.of("status", "ACTIVE");
+            case "queryChannelEffectiveness" -> Map.of("channelType", "SMS");
+            default -> throw new IllegalArgumentException("工具组合中不支持的工具: " + tool);
+        };
+    }
+
+    private GeneratedCustomer nextCustomer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (customers > 0) {
+            return DataGenerator.customer(random.nextInt(customers));
+        }
+        return SAMPLE_CUSTOMERS[random.nextInt(SAMPLE_CUSTOMERS.length)];
+    }
+}
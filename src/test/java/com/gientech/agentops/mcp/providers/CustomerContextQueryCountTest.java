@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.providers;
+
+import com.gientech.agentops.mcp.data.DataGenerator;
+import com.gientech.agentops.mcp.data.DataGenerator.GeneratedCustomer;
+import com.gientech.agentops.mcp.dto.ToolResponse;
+import com.gientech.agentops.mcp.tool.ToolSqlStatements;
+import com.gientech.agentops.mcp.tool.ToolSqlStatements.Counted;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 客户上下文查询的SQL条数回归测试
+ * 客户和贷款产品缓存命中后，按客户+产品查询的工具每次调用只执行一条关联查询，与合同数无关；
+ * 逐级查询时为 客户、产品、授信/合同各一条，再加每笔合同一条还款计划或逾期记录查询，即3~N+3条
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:context-query-count;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;DATABASE_TO_UPPER=FALSE",
+        "logging.file.name=target/test.log",
+        "mcp4ail.sql-log.mode=OFF",
+        "mcp4ail.tool-log.mode=OFF"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CustomerContextQueryCountTest {
+
+    private static final int CUSTOMERS = 30;
+
+    @Autowired
+    private LoanCreditProvider loanCreditProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ToolSqlStatements sqlStatements;
+
+    @BeforeAll
+    void generateCustomers() throws Exception {
+        // 平均每个产品6笔合同，半数有效合同有逾期记录
+        new DataGenerator(DataGenerator.Options.defaults()
+                .withCustomers(CUSTOMERS)
+                .withContractsPerProduct(6)
+                .withOverdueRate(0.5))
+                .generate(dataSource);
+        sqlStatements = new ToolSqlStatements(meterRegistry);
+
+        Integer maxContracts = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT MAX(cnt) FROM (SELECT COUNT(*) AS cnt FROM loan_contract GROUP BY customer_id, product_id)",
+                Integer.class);
+        assertThat(maxContracts).as("需要有多笔合同的客户").isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void queryCreditLimitRunsOneStatement() {
+        assertOneStatementWhenWarm("queryCreditLimit", c -> () -> loanCreditProvider.queryCreditLimit(
+                c.name(), c.idType(), c.idNumber(), c.productName(), null));
+    }
+
+    @Test
+    void queryLoanBalanceByProductRunsOneStatement() {
+        assertOneStatementWhenWarm("queryLoanBalanceByProduct", c -> () -> loanCreditProvider.queryLoanBalanceByProduct(
+                c.name(), c.idType(), c.idNumber(), c.productName(), null));
+    }
+
+    @Test
+    void queryRepaymentPlansRunsOneStatement() {
+        assertOneStatementWhenWarm("queryRepaymentPlans", c -> () -> loanCreditProvider.queryRepaymentPlans(
+                c.name(), c.idType(), c.idNumber(), c.productName(), null));
+    }
+
+    @Test
+    void queryOverdueRecordsRunsOneStatement() {
+        assertOneStatementWhenWarm("queryOverdueRecords", c -> () -> loanCreditProvider.queryOverdueRecords(
+                c.name(), c.idType(), c.idNumber(), c.productName(), null));
+    }
+
+    // 首次调用预热客户和产品缓存，第二次调用只应执行关联查询
+    private void assertOneStatementWhenWarm(String tool,
+                                            Function<GeneratedCustomer, Supplier<ToolResponse>> call) {
+        for (int i = 0; i < CUSTOMERS; i++) {
+            GeneratedCustomer customer = DataGenerator.customer(i);
+            Supplier<ToolResponse> invocation = call.apply(customer);
+            invocation.get();
+
+            Counted<ToolResponse> counted = sqlStatements.count(tool, invocation);
+            assertThat(counted.result().success()).as("%s(%s)", tool, customer.name()).isTrue();
+            assertThat(counted.statements()).as("%s(%s)的SQL条数", tool, customer.name()).isEqualTo(1);
+        }
+    }
+}
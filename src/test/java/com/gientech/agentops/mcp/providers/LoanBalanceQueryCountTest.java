@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.providers;
+
+import com.gientech.agentops.mcp.data.DataGenerator;
+import com.gientech.agentops.mcp.data.DataGenerator.GeneratedCustomer;
+import com.gientech.agentops.mcp.dto.CustomerLoanBalancesResult;
+import com.gientech.agentops.mcp.service.CustomerService;
+import com.gientech.agentops.mcp.tool.ToolSqlStatements;
+import com.gientech.agentops.mcp.tool.ToolSqlStatements.Counted;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * queryLoanBalancesByCustomer 的SQL条数和延迟回归测试
+ * 客户分别有1、10、500笔有效合同；每次调用前清空客户缓存，调用固定为 客户查询 + 按产品汇总余额 两条SQL，
+ * 延迟不应随合同数成倍增长。逐笔合同查询产品时为 N+2 条
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:loan-balance-query-count;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;DATABASE_TO_UPPER=FALSE",
+        "logging.file.name=target/test.log",
+        "mcp4ail.sql-log.mode=OFF",
+        "mcp4ail.tool-log.mode=OFF"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoanBalanceQueryCountTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanBalanceQueryCountTest.class);
+
+    private static final String TOOL = "queryLoanBalancesByCustomer";
+
+    private static final int[] CONTRACT_COUNTS = {1, 10, 500};
+
+    private static final int WARMUP_CALLS = 50;
+
+    private static final int MEASURED_CALLS = 500;
+
+    @Autowired
+    private LoanCreditProvider loanCreditProvider;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ToolSqlStatements sqlStatements;
+
+    // 有效合同数 -> 生成的客户
+    private final Map<Integer, GeneratedCustomer> customers = new LinkedHashMap<>();
+
+    @BeforeAll
+    void generateCustomers() throws Exception {
+        for (int i = 0; i < CONTRACT_COUNTS.length; i++) {
+            new DataGenerator(DataGenerator.Options.defaults()
+                    .withCustomers(1)
+                    .withFirstCustomer(i)
+                    .withActiveContracts(CONTRACT_COUNTS[i]))
+                    .generate(dataSource);
+            customers.put(CONTRACT_COUNTS[i], DataGenerator.customer(i));
+        }
+        sqlStatements = new ToolSqlStatements(meterRegistry);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 500})
+    void runsTwoStatementsRegardlessOfContractCount(int contracts) {
+        GeneratedCustomer customer = customers.get(contracts);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loan_contract c JOIN customer u ON u.id = c.customer_id "
+                + "WHERE u.id_number = ? AND c.status = 'ACTIVE'", Integer.class, customer.idNumber()))
+                .isEqualTo(contracts);
+        BigDecimal expectedBalance = jdbcTemplate.queryForObject("SELECT SUM(c.loan_balance) FROM loan_contract c "
+                + "JOIN customer u ON u.id = c.customer_id WHERE u.id_number = ? AND c.status = 'ACTIVE'",
+                BigDecimal.class, customer.idNumber());
+
+        Counted<CustomerLoanBalancesResult> counted = sqlStatements.count(TOOL, () -> call(customer));
+
+        CustomerLoanBalancesResult result = counted.result();
+        assertThat(result.success()).isTrue();
+        assertThat(result.productBalances()).hasSize(1);
+        assertThat(result.totalLoanBalance()).isEqualByComparingTo(expectedBalance);
+        assertThat(counted.statements()).as("%d笔有效合同时的SQL条数", contracts).isEqualTo(2);
+    }
+
+    @Test
+    void latencyDoesNotScaleWithContractCount() {
+        Map<Integer, Histogram> latencies = new LinkedHashMap<>();
+        for (int contracts : CONTRACT_COUNTS) {
+            GeneratedCustomer customer = customers.get(contracts);
+            for (int i = 0; i < WARMUP_CALLS; i++) {
+                call(customer);
+            }
+            Histogram histogram = new Histogram(3);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                long start = System.nanoTime();
+                call(customer);
+                histogram.recordValue((System.nanoTime() - start) / 1000);
+            }
+            latencies.put(contracts, histogram);
+            logger.info("{} 笔有效合同：p50={}us p99={}us max={}us", contracts,
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99), histogram.getMaxValue());
+        }
+
+        // 汇总在数据库内完成，500笔合同的中位延迟不应超过1笔合同的10倍（另留2ms余量吸收环境抖动）
+        long p50Single = latencies.get(1).getValueAtPercentile(50);
+        long p50Largest = latencies.get(500).getValueAtPercentile(50);
+        assertThat(p50Largest).as("500笔合同的p50延迟(us)").isLessThanOrEqualTo(p50Single * 10 + 2000);
+    }
+
+    // 客户缓存的淘汰是异步的，maximum-size=0 不能保证每次都未命中，因此每次调用前显式清空
+    private CustomerLoanBalancesResult call(GeneratedCustomer customer) {
+        customerService.invalidateIdentityCache();
+        return loanCreditProvider.queryLoanBalancesByCustomer(customer.name(), customer.idType(), customer.idNumber(), null);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.service;
+
+import com.gientech.agentops.mcp.service.DependencyGraph.Analysis;
+import com.gientech.agentops.mcp.service.DependencyGraph.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DependencyGraph 的传递依赖、关键路径、循环检测及超过64个节点时的位图边界测试
+ */
+class DependencyGraphTest {
+
+    // 与 dependency-graph.json 相同的依赖关系
+    private static final List<Node> LOAN_SYSTEMS = List.of(
+            new Node("核心系统改造", 30, List.of("风控模型集成", "渠道接口开发"), List.of("核心系统改造常因表结构调整影响其他模块")),
+            new Node("征信接口对接", 10, List.of("反欺诈系统对接"), null),
+            new Node("风控模型集成", 20, List.of("数据中台对接"), null),
+            new Node("渠道接口开发", 15, null, null),
+            new Node("反欺诈系统对接", 12, null, null),
+            new Node("数据中台对接", 10, null, null));
+
+    @Test
+    void resolvesTransitiveDependenciesAndCriticalPath() {
+        DependencyGraph graph = DependencyGraph.compile(LOAN_SYSTEMS);
+
+        Analysis analysis = graph.analyze(List.of("核心系统改造"));
+
+        // 按拓扑顺序：数据中台对接必须排在风控模型集成之前
+        assertThat(analysis.dependencies()).containsExactly("渠道接口开发", "数据中台对接", "风控模型集成");
+        assertThat(analysis.criticalPath()).containsExactly("数据中台对接", "风控模型集成", "核心系统改造");
+        assertThat(analysis.criticalPathDays()).isEqualTo(60);
+        assertThat(analysis.historicalIssues()).containsExactly("核心系统改造常因表结构调整影响其他模块");
+    }
+
+    @Test
+    void mergesDependenciesOfSeveralChanges() {
+        DependencyGraph graph = DependencyGraph.compile(LOAN_SYSTEMS);
+
+        Analysis analysis = graph.analyze(List.of("征信接口对接", "风控模型集成"));
+
+        assertThat(analysis.dependencies()).containsExactly("反欺诈系统对接", "数据中台对接");
+        assertThat(analysis.criticalPath()).containsExactly("数据中台对接", "风控模型集成");
+        assertThat(analysis.criticalPathDays()).isEqualTo(30);
+    }
+
+    @Test
+    void ignoresUnknownChanges() {
+        DependencyGraph graph = DependencyGraph.compile(LOAN_SYSTEMS);
+
+        Analysis analysis = graph.analyze(List.of("不存在的系统", "风控模型集成"));
+        assertThat(analysis.dependencies()).containsExactly("数据中台对接");
+        assertThat(analysis.criticalPath()).containsExactly("数据中台对接", "风控模型集成");
+        assertThat(analysis.criticalPathDays()).isEqualTo(30);
+
+        Analysis unknownOnly = graph.analyze(List.of("不存在的系统"));
+        assertThat(unknownOnly.dependencies()).isEmpty();
+        assertThat(unknownOnly.criticalPath()).isEmpty();
+        assertThat(unknownOnly.criticalPathDays()).isZero();
+        assertThat(unknownOnly.historicalIssues()).isEmpty();
+    }
+
+    @Test
+    void treatsUndeclaredDependenciesAsZeroDurationSystems() {
+        DependencyGraph graph = DependencyGraph.compile(List.of(new Node("营销系统", 5, List.of("短信平台"), null)));
+
+        Analysis analysis = graph.analyze(List.of("营销系统"));
+
+        assertThat(graph.size()).isEqualTo(2);
+        assertThat(analysis.dependencies()).containsExactly("短信平台");
+        assertThat(analysis.criticalPathDays()).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsCycles() {
+        List<Node> nodes = List.of(
+                new Node("A", 1, List.of("B"), null),
+                new Node("B", 1, List.of("C"), null),
+                new Node("C", 1, List.of("A"), null),
+                new Node("D", 1, null, null));
+
+        assertThatThrownBy(() -> DependencyGraph.compile(nodes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("循环依赖")
+                .hasMessageContaining("A")
+                .hasMessageNotContaining("D");
+    }
+
+    @Test
+    void rejectsDuplicateSystems() {
+        List<Node> nodes = List.of(new Node("A", 1, null, null), new Node("A", 2, null, null));
+
+        assertThatThrownBy(() -> DependencyGraph.compile(nodes)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void chainLongerThanOneBitsetWord() {
+        // 系统i依赖系统i-1，序号跨越第1、2个64位字的边界
+        int n = 130;
+        List<Node> nodes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            nodes.add(new Node("S" + i, i + 1, i > 0 ? List.of("S" + (i - 1)) : null, null));
+        }
+        DependencyGraph graph = DependencyGraph.compile(nodes);
+
+        Analysis atBoundary = graph.analyze(List.of("S64"));
+        assertThat(atBoundary.dependencies()).containsExactlyElementsOf(names("S", 0, 64));
+        assertThat(atBoundary.criticalPath()).containsExactlyElementsOf(names("S", 0, 65));
+        assertThat(atBoundary.criticalPathDays()).isEqualTo(65L * 66 / 2);
+
+        Analysis last = graph.analyze(List.of("S" + (n - 1)));
+        assertThat(last.dependencies()).containsExactlyElementsOf(names("S", 0, n - 1));
+        assertThat(last.criticalPath()).hasSize(n);
+        assertThat(last.criticalPathDays()).isEqualTo((long) n * (n + 1) / 2);
+
+        // 传递依赖之外的节点不应出现在结果中
+        Analysis middle = graph.analyze(List.of("S63"));
+        assertThat(middle.dependencies()).containsExactlyElementsOf(names("S", 0, 63));
+    }
+
+    @Test
+    void fanInFromMoreThanSixtyFourSystems() {
+        // 100个相互独立的系统被同一个系统依赖，工期越靠后越长
+        int leaves = 100;
+        List<Node> nodes = new ArrayList<>(leaves + 1);
+        for (int i = 0; i < leaves; i++) {
+            nodes.add(new Node("L" + i, i, null, null));
+        }
+        nodes.add(new Node("汇总系统", 7, names("L", 0, leaves), null));
+        DependencyGraph graph = DependencyGraph.compile(nodes);
+
+        Analysis analysis = graph.analyze(List.of("汇总系统", "L70"));
+
+        assertThat(analysis.dependencies()).containsExactlyElementsOf(names("L", 0, leaves));
+        assertThat(analysis.criticalPath()).containsExactly("L99", "汇总系统");
+        assertThat(analysis.criticalPathDays()).isEqualTo(99 + 7);
+    }
+
+    private static List<String> names(String prefix, int from, int to) {
+        List<String> names = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            names.add(prefix + i);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.tool;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * 统计单次工具调用执行的SQL条数
+ * 读取 {@link ToolMetricsAspect} 按工具记录的 mcp.tool.sql.statements 指标（由 {@link ToolSqlInterceptor} 计数），
+ * 比较调用前后的累计值；调用须通过Spring代理，且同一工具不能并发调用
+ */
+public final class ToolSqlStatements {
+
+    private final MeterRegistry registry;
+
+    public ToolSqlStatements(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 执行一次工具调用
+     * @param tool 工具名称
+     * @param call 工具调用
+     * @return 调用结果及其执行的SQL条数
+     */
+    public <T> Counted<T> count(String tool, Supplier<T> call) {
+        double statementsBefore = totalStatements(tool);
+        long callsBefore = calls(tool);
+        T result = call.get();
+        if (calls(tool) != callsBefore + 1) {
+            throw new IllegalStateException("工具[" + tool + "]未经过指标切面，或被并发调用");
+        }
+        return new Counted<>(result, Math.round(totalStatements(tool) - statementsBefore));
+    }
+
+    private double totalStatements(String tool) {
+        DistributionSummary summary = summary(tool);
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private long calls(String tool) {
+        DistributionSummary summary = summary(tool);
+        return summary != null ? summary.count() : 0;
+    }
+
+    private DistributionSummary summary(String tool) {
+        return registry.find("mcp.tool.sql.statements").tag("tool", tool).summary();
+    }
+
+    /**
+     * 工具调用结果
+     * @param result 工具返回值
+     * @param statements 执行的SQL条数
+     */
+    public record Counted<T>(T result, long statements) {
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.providers;
+
+import java.time.Year;
+import java.util.List;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+
+import com.gientech.agentops.mcp.dto.CreditLimitResult;
+import com.gientech.agentops.mcp.dto.CustomerLoanBalancesResult;
+import com.gientech.agentops.mcp.dto.LoanBalanceResult;
+import com.gientech.agentops.mcp.dto.OverdueRecordsResult;
+import com.gientech.agentops.mcp.dto.RepaymentPlansResult;
+import com.gientech.agentops.mcp.service.ReactiveCustomerContextLoader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 零售信贷系统的响应式MCP工具提供者
+ * 在WebFlux构建（-Dwebflux）中以 reactive 配置文件启动时代替 {@link LoanCreditProvider}，
+ * 通过R2DBC非阻塞加载数据，等待数据库时不占用线程；
+ * 工具名称、参数、错误判断顺序和返回结构与 LoanCreditProvider 相同，均由 {@link LoanCreditResults} 组装
+ */
+@Service
+@ConditionalOnProperty(name = "spring.ai.mcp.server.type", havingValue = "ASYNC")
+public class ReactiveLoanCreditProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveLoanCreditProvider.class);
+
+    @Autowired
+    private ReactiveCustomerContextLoader customerContextLoader;
+
+    /**
+     * 查询客户的授信额度
+     * @param name 客户姓名
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @param productName 贷款品种名称
+     * @return 授信额度，单位元，精确到小数点后2位
+     */
+    @McpTool(description = "查询客户的授信额度")
+    public Mono<CreditLimitResult> queryCreditLimit(
+            @McpToolParam(description = "客户姓名") String name,
+            @McpToolParam(description = "证件类型") String idType,
+            @McpToolParam(description = "证件号码") String idNumber,
+            @McpToolParam(description = "贷款品种名称") String productName) {
+        
+        // 一次查询客户、贷款产品及客户授信
+        return customerContextLoader.loadCredit(name, idType, idNumber, productName)
+                .map(context -> LoanCreditResults.creditLimit(context, name, productName))
+                .switchIfEmpty(Mono.fromSupplier(() -> LoanCreditResults.creditLimit(null, name, productName)))
+                .onErrorResume(failed("查询客户授信额度失败", CreditLimitResult::error));
+    }
+
+    /**
+     * 查询客户的贷款余额（按产品）
+     * @param name 客户姓名
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @param productName 贷款品种名称
+     * @return 贷款余额，单位元，精确到小数点后2位
+     */
+    @McpTool(description = "查询客户的贷款余额（按产品）")
+    public Mono<LoanBalanceResult> queryLoanBalanceByProduct(
+            @McpToolParam(description = "客户姓名") String name,
+            @McpToolParam(description = "证件类型") String idType,
+            @McpToolParam(description = "证件号码") String idNumber,
+            @McpToolParam(description = "贷款品种名称") String productName) {
+        
+        // 一次查询客户、贷款产品及有效贷款合同
+        return customerContextLoader.loadContracts(name, idType, idNumber, productName, "ACTIVE")
+                .map(context -> LoanCreditResults.loanBalance(context, name, productName))
+                .switchIfEmpty(Mono.fromSupplier(() -> LoanCreditResults.loanBalance(null, name, productName)))
+                .onErrorResume(failed("查询贷款余额失败", LoanBalanceResult::error));
+    }
+
+    /**
+     * 查询客户的贷款余额（所有产品）
+     * @param name 客户姓名
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @return 各贷款品种的贷款余额列表
+     */
+    @McpTool(description = "查询客户的贷款余额（所有产品）")
+    public Mono<CustomerLoanBalancesResult> queryLoanBalancesByCustomer(
+            @McpToolParam(description = "客户姓名") String name,
+            @McpToolParam(description = "证件类型") String idType,
+            @McpToolParam(description = "证件号码") String idNumber) {
+        
+        // 查询客户后在数据库中按产品分组汇总有效贷款合同的余额
+        return customerContextLoader.loadCustomer(name, idType, idNumber)
+                .flatMap(context -> customerContextLoader.listActiveBalancesByProduct(context.getCustomerId())
+                        .map(productBalances -> LoanCreditResults.loanBalances(context, productBalances, name)))
+                .switchIfEmpty(Mono.fromSupplier(() -> LoanCreditResults.loanBalances(null, List.of(), name)))
+                .onErrorResume(failed("查询贷款余额列表失败", CustomerLoanBalancesResult::error));
+    }
+
+    /**
+     * 查询客户的还款计划
+     * @param name 客户姓名
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @param productName 贷款品种名称
+     * @return 今年的还款计划列表
+     */
+    @McpTool(description = "查询客户的还款计划")
+    public Mono<RepaymentPlansResult> queryRepaymentPlans(
+            @McpToolParam(description = "客户姓名") String name,
+            @McpToolParam(description = "证件类型") String idType,
+            @McpToolParam(description = "证件号码") String idNumber,
+            @McpToolParam(description = "贷款品种名称") String productName) {
+        
+        // 获取当前年份
+        String currentYear = String.valueOf(Year.now().getValue());
+        
+        // 查询客户、贷款产品、有效贷款合同及今年的还款计划，还款计划已在SQL中按日期排序
+        return customerContextLoader.loadRepaymentPlans(name, idType, idNumber, productName, currentYear)
+                .map(context -> LoanCreditResults.repaymentPlans(context, name, productName, currentYear))
+                .switchIfEmpty(Mono.fromSupplier(
+                        () -> LoanCreditResults.repaymentPlans(null, name, productName, currentYear)))
+                .onErrorResume(failed("查询还款计划失败", RepaymentPlansResult::error));
+    }
+
+    /**
+     * 查询客户的逾期记录
+     * @param name 客户姓名
+     * @param idType 证件类型
+     * @param idNumber 证件号码
+     * @param productName 贷款品种名称
+     * @return 该贷款品种的逾期记录
+     */
+    @McpTool(description = "查询客户的逾期记录")
+    public Mono<OverdueRecordsResult> queryOverdueRecords(
+            @McpToolParam(description = "客户姓名") String name,
+            @McpToolParam(description = "证件类型") String idType,
+            @McpToolParam(description = "证件号码") String idNumber,
+            @McpToolParam(description = "贷款品种名称") String productName) {
+        
+        // 查询客户、贷款产品、贷款合同及其逾期记录
+        return customerContextLoader.loadOverdueRecords(name, idType, idNumber, productName)
+                .map(context -> LoanCreditResults.overdueRecords(context, name, productName))
+                .switchIfEmpty(Mono.fromSupplier(() -> LoanCreditResults.overdueRecords(null, name, productName)))
+                .onErrorResume(failed("查询逾期记录失败", OverdueRecordsResult::error));
+    }
+
+    // 与 LoanCreditProvider 一致：记录异常并返回"查询失败"错误响应
+    private static <T> Function<Throwable, Mono<T>> failed(String logMessage, Function<String, T> error) {
+        return e -> {
+            logger.error(logMessage, e);
+            return Mono.just(error.apply("查询失败：" + e.getMessage()));
+        };
+    }
+}
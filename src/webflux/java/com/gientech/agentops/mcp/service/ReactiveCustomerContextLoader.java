@@ -0,0 +1,305 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 com.gientech.agentops
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.gientech.agentops.mcp.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.gientech.agentops.mcp.dto.CustomerContext;
+import com.gientech.agentops.mcp.dto.ProductBalance;
+import com.gientech.agentops.mcp.entity.Customer;
+import com.gientech.agentops.mcp.entity.CustomerCredit;
+import com.gientech.agentops.mcp.entity.LoanContract;
+import com.gientech.agentops.mcp.entity.LoanProduct;
+import com.gientech.agentops.mcp.entity.OverdueRecord;
+import com.gientech.agentops.mcp.entity.RepaymentPlan;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link CustomerContextLoader} 的响应式版本，通过R2DBC非阻塞加载客户上下文
+ * 加载的内容及排序与 CustomerContextLoader 相同，客户不存在时返回空的 Mono
+ */
+@Service
+@ConditionalOnProperty(name = "spring.ai.mcp.server.type", havingValue = "ASYNC")
+public class ReactiveCustomerContextLoader {
+
+    private static final String CUSTOMER_SQL =
+            "SELECT id, name, id_type, id_number, phone, address FROM customer "
+            + "WHERE id_type = :idType AND id_number = :idNumber";
+
+    private static final String PRODUCT_SQL =
+            "SELECT id, product_code, product_name, description FROM loan_product WHERE product_name = :productName";
+
+    private static final String CREDIT_SQL =
+            "SELECT id, customer_id, product_id, credit_limit, available_limit, status FROM customer_credit "
+            + "WHERE customer_id = :customerId AND product_id = :productId";
+
+    private static final String CONTRACTS_SQL =
+            "SELECT id, contract_no, customer_id, product_id, loan_amount, loan_balance, loan_date, maturity_date, status "
+            + "FROM loan_contract WHERE customer_id = :customerId AND product_id = :productId";
+
+    // 使用月份区间代替 LIKE，可以走 uk_contract_date(contract_id, repayment_date) 索引
+    private static final String REPAYMENT_PLANS_SQL =
+            "SELECT rp.id, rp.contract_id, rp.repayment_date, rp.repayment_amount, rp.interest_amount, "
+            + "rp.principal_amount, rp.remaining_balance, rp.status "
+            + "FROM repayment_plan rp JOIN loan_contract lc ON lc.id = rp.contract_id "
+            + "WHERE lc.customer_id = :customerId AND lc.product_id = :productId AND lc.status = 'ACTIVE' "
+            + "AND rp.repayment_date BETWEEN :dateFrom AND :dateTo "
+            + "ORDER BY rp.repayment_date, rp.contract_id";
+
+    private static final String OVERDUE_RECORDS_SQL =
+            "SELECT od.id, od.contract_id, od.overdue_date, od.due_amount, od.paid_amount, od.overdue_amount, "
+            + "od.penalty_amount "
+            + "FROM overdue_record od JOIN loan_contract lc ON lc.id = od.contract_id "
+            + "WHERE lc.customer_id = :customerId AND lc.product_id = :productId AND od.overdue_amount > 0 "
+            + "ORDER BY od.overdue_date, od.contract_id";
+
+    private static final String ACTIVE_BALANCES_SQL =
+            "SELECT lc.product_id, p.product_name, SUM(lc.loan_balance) AS loan_balance "
+            + "FROM loan_contract lc JOIN loan_product p ON p.id = lc.product_id "
+            + "WHERE lc.customer_id = :customerId AND lc.status = 'ACTIVE' "
+            + "GROUP BY lc.product_id, p.product_name ORDER BY lc.product_id";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * 只加载客户
+     */
+    public Mono<CustomerContext> loadCustomer(String name, String idType, String idNumber) {
+        return findCustomer(name, idType, idNumber).map(this::newContext);
+    }
+
+    /**
+     * 加载客户、贷款产品及客户在该产品下的授信
+     */
+    public Mono<CustomerContext> loadCredit(String name, String idType, String idNumber, String productName) {
+        return load(name, idType, idNumber, productName, context -> databaseClient.sql(CREDIT_SQL)
+                .bind("customerId", context.getCustomerId())
+                .bind("productId", context.getProduct().getId())
+                .map(ReactiveCustomerContextLoader::toCredit)
+                .one()
+                .doOnNext(context::setCredit));
+    }
+
+    /**
+     * 加载客户、贷款产品及该产品下的贷款合同
+     * @param contractStatus 合同状态，为null时不过滤
+     */
+    public Mono<CustomerContext> loadContracts(String name, String idType, String idNumber,
+                                               String productName, String contractStatus) {
+        return load(name, idType, idNumber, productName, context -> loadContracts(context, contractStatus));
+    }
+
+    /**
+     * 加载客户、贷款产品、该产品下的有效贷款合同及其指定年份的还款计划
+     * 还款计划已按还款日期排序
+     * @param year 年份（格式：YYYY）
+     */
+    public Mono<CustomerContext> loadRepaymentPlans(String name, String idType, String idNumber,
+                                                    String productName, String year) {
+        return load(name, idType, idNumber, productName, context -> Mono.when(
+                loadContracts(context, "ACTIVE"),
+                databaseClient.sql(REPAYMENT_PLANS_SQL)
+                        .bind("customerId", context.getCustomerId())
+                        .bind("productId", context.getProduct().getId())
+                        .bind("dateFrom", year + "-01")
+                        .bind("dateTo", year + "-12")
+                        .map(ReactiveCustomerContextLoader::toRepaymentPlan)
+                        .all()
+                        .collectList()
+                        .doOnNext(context::setRepaymentPlans)));
+    }
+
+    /**
+     * 加载客户、贷款产品、该产品下的全部贷款合同及其逾期记录
+     * 逾期记录只包含逾期金额大于0的记录，并已按逾期日期排序
+     */
+    public Mono<CustomerContext> loadOverdueRecords(String name, String idType, String idNumber, String productName) {
+        return load(name, idType, idNumber, productName, context -> Mono.when(
+                loadContracts(context, null),
+                databaseClient.sql(OVERDUE_RECORDS_SQL)
+                        .bind("customerId", context.getCustomerId())
+                        .bind("productId", context.getProduct().getId())
+                        .map(ReactiveCustomerContextLoader::toOverdueRecord)
+                        .all()
+                        .collectList()
+                        .doOnNext(context::setOverdueRecords)));
+    }
+
+    /**
+     * 按产品分组汇总客户有效贷款合同的余额
+     */
+    public Mono<List<ProductBalance>> listActiveBalancesByProduct(Long customerId) {
+        return databaseClient.sql(ACTIVE_BALANCES_SQL)
+                .bind("customerId", customerId)
+                .map(row -> {
+                    ProductBalance balance = new ProductBalance();
+                    balance.setProductId(row.get("product_id", Long.class));
+                    balance.setProductName(row.get("product_name", String.class));
+                    balance.setLoanBalance(row.get("loan_balance", BigDecimal.class));
+                    return balance;
+                })
+                .all()
+                .collectList();
+    }
+
+    // 客户和贷款产品并行查询，再加载关联数据；客户不存在时返回空，优先于"贷款产品不存在"；
+    // 产品不存在时直接返回只含客户的上下文
+    private Mono<CustomerContext> load(String name, String idType, String idNumber, String productName,
+                                       Function<CustomerContext, Mono<?>> details) {
+        return Mono.zip(
+                        findCustomer(name, idType, idNumber).map(Optional::of).defaultIfEmpty(Optional.empty()),
+                        findProduct(productName).map(Optional::of).defaultIfEmpty(Optional.empty()))
+                .flatMap(found -> {
+                    if (found.getT1().isEmpty()) {
+                        return Mono.empty();
+                    }
+                    CustomerContext context = newContext(found.getT1().get());
+                    if (found.getT2().isEmpty()) {
+                        return Mono.just(context);
+                    }
+                    context.setProduct(found.getT2().get());
+                    return details.apply(context).then(Mono.just(context));
+                });
+    }
+
+    private Mono<List<LoanContract>> loadContracts(CustomerContext context, String contractStatus) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql(contractStatus != null ? CONTRACTS_SQL + " AND status = :status" : CONTRACTS_SQL)
+                .bind("customerId", context.getCustomerId())
+                .bind("productId", context.getProduct().getId());
+        if (contractStatus != null) {
+            spec = spec.bind("status", contractStatus);
+        }
+        return spec.map(ReactiveCustomerContextLoader::toContract)
+                .all()
+                .collectList()
+                .doOnNext(context::setContracts);
+    }
+
+    // 与 CustomerService.getByIdentity(name, idType, idNumber) 一致：证件匹配但姓名不符时视为客户不存在
+    private Mono<Customer> findCustomer(String name, String idType, String idNumber) {
+        if (idType == null || idNumber == null) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(CUSTOMER_SQL)
+                .bind("idType", idType)
+                .bind("idNumber", idNumber)
+                .map(row -> {
+                    Customer customer = new Customer();
+                    customer.setId(row.get("id", Long.class));
+                    customer.setName(row.get("name", String.class));
+                    customer.setIdType(row.get("id_type", String.class));
+                    customer.setIdNumber(row.get("id_number", String.class));
+                    customer.setPhone(row.get("phone", String.class));
+                    customer.setAddress(row.get("address", String.class));
+                    return customer;
+                })
+                .one()
+                .filter(customer -> name != null && name.equals(customer.getName()));
+    }
+
+    private Mono<LoanProduct> findProduct(String productName) {
+        if (productName == null) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(PRODUCT_SQL)
+                .bind("productName", productName)
+                .map(row -> {
+                    LoanProduct product = new LoanProduct();
+                    product.setId(row.get("id", Long.class));
+                    product.setProductCode(row.get("product_code", String.class));
+                    product.setProductName(row.get("product_name", String.class));
+                    product.setDescription(row.get("description", String.class));
+                    return product;
+                })
+                .one();
+    }
+
+    private CustomerContext newContext(Customer customer) {
+        CustomerContext context = new CustomerContext();
+        context.setCustomerId(customer.getId());
+        context.setCustomer(customer);
+        return context;
+    }
+
+    private static CustomerCredit toCredit(Readable row) {
+        CustomerCredit credit = new CustomerCredit();
+        credit.setId(row.get("id", Long.class));
+        credit.setCustomerId(row.get("customer_id", Long.class));
+        credit.setProductId(row.get("product_id", Long.class));
+        credit.setCreditLimit(row.get("credit_limit", BigDecimal.class));
+        credit.setAvailableLimit(row.get("available_limit", BigDecimal.class));
+        credit.setStatus(row.get("status", String.class));
+        return credit;
+    }
+
+    private static LoanContract toContract(Readable row) {
+        LoanContract contract = new LoanContract();
+        contract.setId(row.get("id", Long.class));
+        contract.setContractNo(row.get("contract_no", String.class));
+        contract.setCustomerId(row.get("customer_id", Long.class));
+        contract.setProductId(row.get("product_id", Long.class));
+        contract.setLoanAmount(row.get("loan_amount", BigDecimal.class));
+        contract.setLoanBalance(row.get("loan_balance", BigDecimal.class));
+        contract.setLoanDate(row.get("loan_date", LocalDate.class));
+        contract.setMaturityDate(row.get("maturity_date", LocalDate.class));
+        contract.setStatus(row.get("status", String.class));
+        return contract;
+    }
+
+    private static RepaymentPlan toRepaymentPlan(Readable row) {
+        RepaymentPlan plan = new RepaymentPlan();
+        plan.setId(row.get("id", Long.class));
+        plan.setContractId(row.get("contract_id", Long.class));
+        plan.setRepaymentDate(row.get("repayment_date", String.class));
+        plan.setRepaymentAmount(row.get("repayment_amount", BigDecimal.class));
+        plan.setInterestAmount(row.get("interest_amount", BigDecimal.class));
+        plan.setPrincipalAmount(row.get("principal_amount", BigDecimal.class));
+        plan.setRemainingBalance(row.get("remaining_balance", BigDecimal.class));
+        plan.setStatus(row.get("status", String.class));
+        return plan;
+    }
+
+    private static OverdueRecord toOverdueRecord(Readable row) {
+        OverdueRecord record = new OverdueRecord();
+        record.setId(row.get("id", Long.class));
+        record.setContractId(row.get("contract_id", Long.class));
+        record.setOverdueDate(row.get("overdue_date", String.class));
+        record.setDueAmount(row.get("due_amount", BigDecimal.class));
+        record.setPaidAmount(row.get("paid_amount", BigDecimal.class));
+        record.setOverdueAmount(row.get("overdue_amount", BigDecimal.class));
+        record.setPenaltyAmount(row.get("penalty_amount", BigDecimal.class));
+        return record;
+    }
+}